@@ -0,0 +1,84 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import software.amazon.awssdk.services.docdbelastic.model.Auth;
+import software.amazon.awssdk.services.docdbelastic.model.Cluster;
+import software.amazon.awssdk.services.docdbelastic.model.ClusterInList;
+import software.amazon.awssdk.services.docdbelastic.model.GetClusterResponse;
+import software.amazon.awssdk.services.docdbelastic.model.ListClustersResponse;
+import software.amazon.awssdk.services.docdbelastic.model.Status;
+
+/**
+ * Realistically sized inputs shared by the benchmarks: 50 tags (the schema maximum), full pages of 50 clusters and
+ * models with many subnets and security groups.
+ */
+final class BenchmarkFixtures {
+    static final String CLUSTER_ARN = "arn:aws:docdb-elastic:us-east-1:123456789012:cluster/5c3e1ea0-7e3b-4b4f-9f2a-3d1e3b0c6a77";
+
+    private BenchmarkFixtures() {
+    }
+
+    static Map<String, String> tags(final int count, final String valuePrefix) {
+        final Map<String, String> tags = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            tags.put("tag-key-" + i, valuePrefix + i);
+        }
+        return tags;
+    }
+
+    static List<String> ids(final String prefix, final int count, final int offset) {
+        final List<String> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(String.format("%s-%017x", prefix, i + offset));
+        }
+        return ids;
+    }
+
+    static ResourceModel model(final int shardCapacity, final int idCount, final int idOffset) {
+        return ResourceModel.builder()
+                .clusterArn(CLUSTER_ARN)
+                .clusterName("benchmark-cluster")
+                .adminUserName("admin")
+                .adminUserPassword("password")
+                .authType(Auth.PLAIN_TEXT.toString())
+                .shardCapacity(shardCapacity)
+                .shardCount(4)
+                .vpcSecurityGroupIds(ids("sg", idCount, idOffset))
+                .subnetIds(ids("subnet", idCount, idOffset))
+                .preferredMaintenanceWindow("mon:03:00-mon:03:30")
+                .build();
+    }
+
+    static GetClusterResponse getClusterResponse(final int idCount) {
+        return GetClusterResponse.builder()
+                .cluster(Cluster.builder()
+                        .clusterArn(CLUSTER_ARN)
+                        .clusterName("benchmark-cluster")
+                        .adminUserName("admin")
+                        .authType(Auth.PLAIN_TEXT)
+                        .shardCapacity(8)
+                        .shardCount(4)
+                        .status(Status.ACTIVE)
+                        .vpcSecurityGroupIds(ids("sg", idCount, 0))
+                        .subnetIds(ids("subnet", idCount, 0))
+                        .preferredMaintenanceWindow("mon:03:00-mon:03:30")
+                        .kmsKeyId("AWS_OWNED_KMS_KEY")
+                        .build())
+                .build();
+    }
+
+    static ListClustersResponse listClustersResponse(final int clusterCount) {
+        final List<ClusterInList> clusters = new ArrayList<>(clusterCount);
+        for (int i = 0; i < clusterCount; i++) {
+            clusters.add(ClusterInList.builder()
+                    .clusterArn(CLUSTER_ARN + i)
+                    .clusterName("benchmark-cluster-" + i)
+                    .status(Status.ACTIVE)
+                    .build());
+        }
+        return ListClustersResponse.builder().clusters(clusters).nextToken("next").build();
+    }
+}
@@ -0,0 +1,43 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.docdbelastic.DocDbElasticClient;
+import software.amazon.cloudformation.LambdaWrapper;
+
+/**
+ * Per-invocation cost of getting a service client: building a new one, as every handler invocation used to, against
+ * taking the cached one from ClientBuilder.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClientBuilderBenchmark {
+
+    @Benchmark
+    public DocDbElasticClient newClientPerInvocation() {
+        final DocDbElasticClient client = DocDbElasticClient.builder()
+                .httpClient(LambdaWrapper.HTTP_CLIENT)
+                .region(Region.US_EAST_1)
+                .build();
+        client.close();
+        return client;
+    }
+
+    @Benchmark
+    public DocDbElasticClient cachedClient() {
+        return ClientBuilder.getClient(Region.US_EAST_1, null);
+    }
+}
@@ -0,0 +1,67 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.docdbelastic.model.CreateClusterRequest;
+import software.amazon.awssdk.services.docdbelastic.model.UpdateClusterRequest;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestTranslatorBenchmark {
+
+    @Param({"2", "16", "64"})
+    int idCount;
+
+    private ResourceModel model;
+    private ResourceModel sameModel;
+    private ResourceModel reorderedModel;
+    private ResourceModel changedModel;
+    private Map<String, String> tags;
+
+    @Setup
+    public void setup() {
+        model = BenchmarkFixtures.model(8, idCount, 0);
+        sameModel = BenchmarkFixtures.model(8, idCount, 0);
+        reorderedModel = BenchmarkFixtures.model(8, idCount, 0);
+        Collections.reverse(reorderedModel.getSubnetIds());
+        Collections.reverse(reorderedModel.getVpcSecurityGroupIds());
+        changedModel = BenchmarkFixtures.model(16, idCount, 1);
+        tags = BenchmarkFixtures.tags(50, "value-");
+    }
+
+    @Benchmark
+    public CreateClusterRequest translateToCreateRequest() {
+        return RequestTranslator.translateToCreateRequest(model, tags, "client-request-token");
+    }
+
+    @Benchmark
+    public UpdateClusterRequest translateToUpdateClusterRequest_NoChange() {
+        return RequestTranslator.translateToUpdateClusterRequest(model, sameModel);
+    }
+
+    @Benchmark
+    public UpdateClusterRequest translateToUpdateClusterRequest_Reordered() {
+        return RequestTranslator.translateToUpdateClusterRequest(model, reorderedModel);
+    }
+
+    @Benchmark
+    public UpdateClusterRequest translateToUpdateClusterRequest_Changed() {
+        return RequestTranslator.translateToUpdateClusterRequest(model, changedModel);
+    }
+}
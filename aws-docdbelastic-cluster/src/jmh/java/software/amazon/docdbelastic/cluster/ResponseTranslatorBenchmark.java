@@ -0,0 +1,47 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.docdbelastic.model.GetClusterResponse;
+import software.amazon.awssdk.services.docdbelastic.model.ListClustersResponse;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseTranslatorBenchmark {
+
+    private GetClusterResponse getClusterResponse;
+    private Set<Tag> tags;
+    private ListClustersResponse listClustersResponse;
+
+    @Setup
+    public void setup() {
+        getClusterResponse = BenchmarkFixtures.getClusterResponse(16);
+        tags = TagHelper.convertToCfnTags(BenchmarkFixtures.tags(50, "value-"));
+        listClustersResponse = BenchmarkFixtures.listClustersResponse(50);
+    }
+
+    @Benchmark
+    public ResourceModel translateFromReadResponse() {
+        return ResponseTranslator.translateFromReadResponse(getClusterResponse, tags);
+    }
+
+    @Benchmark
+    public List<ResourceModel> translateFromListResponse() {
+        return ResponseTranslator.translateFromListResponse(listClustersResponse);
+    }
+}
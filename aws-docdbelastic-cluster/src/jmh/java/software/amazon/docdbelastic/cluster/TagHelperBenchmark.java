@@ -0,0 +1,58 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Tag diffing for a 50 tag resource where half of the tags change value and a quarter are replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TagHelperBenchmark {
+
+    private Map<String, String> previousTags;
+    private Map<String, String> desiredTags;
+
+    @Setup
+    public void setup() {
+        previousTags = BenchmarkFixtures.tags(50, "value-");
+        desiredTags = BenchmarkFixtures.tags(50, "value-");
+        for (int i = 0; i < 25; i++) {
+            desiredTags.put("tag-key-" + i, "changed-" + i);
+        }
+        for (int i = 25; i < 38; i++) {
+            desiredTags.remove("tag-key-" + i);
+            desiredTags.put("new-tag-key-" + i, "value-" + i);
+        }
+    }
+
+    @Benchmark
+    public Map<String, String> generateTagsToAdd() {
+        return TagHelper.generateTagsToAdd(previousTags, desiredTags);
+    }
+
+    @Benchmark
+    public Set<String> generateTagsToRemove() {
+        return TagHelper.generateTagsToRemove(previousTags, desiredTags);
+    }
+
+    @Benchmark
+    public Set<Tag> convertToCfnTags() {
+        return TagHelper.convertToCfnTags(desiredTags);
+    }
+}
@@ -0,0 +1,134 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * Token bucket per account, region and API shared by every invocation on the container, so that concurrent
+ * stabilizations and reads spread their calls out instead of running into the account's rate limits together. A
+ * throttled call cuts the rate of its API in its account and region by {@link RateLimiterOptions#getDecreaseFactor()};
+ * each successful call then raises it again by a step, back up to the configured rate. Other accounts and regions
+ * have their own limits and keep their rates.
+ */
+public class ApiRateLimiter {
+    private static volatile ApiRateLimiter shared = new ApiRateLimiter(RateLimiterOptions.builder().build());
+
+    private final RateLimiterOptions options;
+    private final LongSupplier nanoClock;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    public ApiRateLimiter(final RateLimiterOptions options) {
+        this(options, System::nanoTime);
+    }
+
+    ApiRateLimiter(final RateLimiterOptions options, final LongSupplier nanoClock) {
+        this.options = options;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * @return the limiter used by all handlers in this JVM
+     */
+    public static ApiRateLimiter shared() {
+        return shared;
+    }
+
+    /**
+     * Replaces the JVM-wide limiter; buckets start full at the new rates
+     */
+    public static void configure(final RateLimiterOptions options) {
+        shared = new ApiRateLimiter(options);
+    }
+
+    /**
+     * @param scope account and region the client calls, see {@link ClusterInventory#scopeOf}
+     *
+     * @return client that takes a token before each call and adapts the rate to the outcome
+     */
+    public <ClientT> ProxyClient<ClientT> limit(final ProxyClient<ClientT> proxyClient, final String scope) {
+        return new RateLimitedProxyClient<>(proxyClient, this, scope);
+    }
+
+    /**
+     * Blocks until the API may be called, or for at most {@link RateLimiterOptions#getMaxWait()}
+     */
+    void acquire(final String scope, final String api) {
+        final long waitNanos = reserve(scope, api);
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Takes a token, borrowing against future refills if none is left
+     *
+     * @return nanoseconds to wait before calling
+     */
+    long reserve(final String scope, final String api) {
+        return bucket(scope, api).reserve(nanoClock.getAsLong(), options.getMaxWait().toNanos());
+    }
+
+    void onSuccess(final String scope, final String api) {
+        bucket(scope, api).recover();
+    }
+
+    void onThrottled(final String scope, final String api) {
+        bucket(scope, api).decrease();
+    }
+
+    double currentRate(final String scope, final String api) {
+        return bucket(scope, api).rate;
+    }
+
+    private TokenBucket bucket(final String scope, final String api) {
+        return buckets.computeIfAbsent(scope + "|" + api, key -> new TokenBucket(options.rateFor(api), nanoClock.getAsLong()));
+    }
+
+    private final class TokenBucket {
+        private final double maxRate;
+        private double rate;
+        private double tokens;
+        private long refilledAt;
+
+        private TokenBucket(final double maxRate, final long now) {
+            this.maxRate = maxRate;
+            this.rate = maxRate;
+            this.tokens = options.getBurst();
+            this.refilledAt = now;
+        }
+
+        private synchronized long reserve(final long now, final long maxWaitNanos) {
+            tokens = Math.min(options.getBurst(), tokens + (now - refilledAt) * rate / 1e9);
+            refilledAt = now;
+            if (tokens >= 1.0) {
+                tokens -= 1.0;
+                return 0L;
+            }
+            final long waitNanos = (long) ((1.0 - tokens) / rate * 1e9);
+            if (waitNanos > maxWaitNanos) {
+                return 0L;
+            }
+            tokens -= 1.0;
+            return waitNanos;
+        }
+
+        private synchronized void decrease() {
+            rate = Math.max(options.getMinRate(), rate * options.getDecreaseFactor());
+            tokens = Math.min(tokens, 0.0);
+        }
+
+        private synchronized void recover() {
+            if (rate < maxRate) {
+                rate = Math.min(maxRate, rate + (maxRate - options.getMinRate()) / options.getRecoverySteps());
+            }
+        }
+    }
+}
@@ -1,6 +1,14 @@
 package software.amazon.docdbelastic.cluster;
 
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import software.amazon.awssdk.services.docdbelastic.DocDbElasticAsyncClient;
 import software.amazon.awssdk.services.docdbelastic.DocDbElasticClient;
+import software.amazon.awssdk.services.docdbelastic.model.Cluster;
+import software.amazon.awssdk.services.docdbelastic.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.docdbelastic.model.Status;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -11,6 +19,8 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     protected static final String CALL_GRAPH_PREFIX = "AWS-DocDBElastic-Cluster::";
 
+    protected static final RetryPolicy RETRY_POLICY = RetryPolicy.builder().build();
+
     @Override
     public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             AmazonWebServicesClientProxy proxy,
@@ -18,13 +28,103 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             CallbackContext callbackContext,
             Logger logger) {
 
-        return handleRequest(
-                proxy,
-                request,
-                callbackContext != null ? callbackContext : new CallbackContext(),
-                proxy.newProxy(ClientBuilder::getClient),
-                logger
-        );
+        final String operation = getClass().getSimpleName().replace("Handler", "");
+        final ServiceCallMetrics metrics = new ServiceCallMetrics(operation);
+        final ApiRateLimiter limiter = ApiRateLimiter.shared();
+        final long retryDeadline = System.nanoTime() + RETRY_POLICY.getInvocationBudget().toNanos();
+        final CallbackContext context = callbackContext != null ? callbackContext : new CallbackContext();
+        context.setInvocationAttempt(context.getInvocationAttempt() + 1);
+        context.setInvocationDeadline(retryDeadline);
+        final StructuredLogger invocationLogger = StructuredLogger.of(logger)
+                .with("operation", operation)
+                .with("clusterArn", request.getDesiredResourceState() == null ? null : request.getDesiredResourceState().getClusterArn())
+                .with("attempt", context.getInvocationAttempt())
+                .with("clientRequestToken", request.getClientRequestToken());
+        final String callGraph = CALL_GRAPH_PREFIX + operation;
+        final String caller = CallerIdentity.of(proxy);
+        final String scope = ClusterInventory.scopeOf(request);
+        final GetClusterCache cache = GetClusterCache.shared();
+        final ReadCoalescer coalescer = ReadCoalescer.shared();
+        // outermost first: cache, read coalescing, in-process retries, metrics, rate limiter
+        final ProxyClient<DocDbElasticClient> proxyClient = cache.caching(coalescer.coalescing(RETRY_POLICY.retrying(
+                metrics.instrument(limiter.limit(proxy.newProxy(ClientBuilder::getClient), scope), callGraph), retryDeadline),
+                caller, metrics, callGraph), caller, metrics, callGraph);
+        final ProxyClient<DocDbElasticAsyncClient> asyncProxyClient = asyncProxyClient(proxy, scope, caller, metrics, callGraph);
+        try {
+            return resumeAfterRetryableError(() -> handleRequest(
+                    proxy,
+                    request,
+                    context,
+                    proxyClient,
+                    asyncProxyClient,
+                    invocationLogger
+            ), request, context, invocationLogger);
+        } finally {
+            // EMF lines are parsed as they are, so they bypass the structured logger
+            metrics.emit(logger);
+        }
+    }
+
+    /**
+     * @return async client with the same layers as the sync client of an invocation, minus the in-process retries
+     */
+    static ProxyClient<DocDbElasticAsyncClient> asyncProxyClient(final AmazonWebServicesClientProxy proxy,
+                                                                 final String scope,
+                                                                 final String caller,
+                                                                 final ServiceCallMetrics metrics,
+                                                                 final String callGraph) {
+        return GetClusterCache.shared().caching(ReadCoalescer.shared().coalescing(
+                metrics.instrument(ApiRateLimiter.shared().limit(proxy.newProxy(ClientBuilder::getAsyncClient), scope), callGraph),
+                caller, metrics, callGraph), caller, metrics, callGraph);
+    }
+
+    /**
+     * Runs an invocation, turning a retryable error that is left after in-process retries into an IN_PROGRESS event
+     * with a jittered callback delay, up to {@link RetryPolicy#getMaxCallbacks()} invocations in a row. Handlers that
+     * must answer synchronously opt out through {@link #isResumable()}.
+     */
+    final ProgressEvent<ResourceModel, CallbackContext> resumeAfterRetryableError(
+            final Supplier<ProgressEvent<ResourceModel, CallbackContext>> invocation,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final Logger logger) {
+
+        final ProgressEvent<ResourceModel, CallbackContext> event;
+        try {
+            event = invocation.get();
+        } catch (RuntimeException e) {
+            if (!isResumable() || !ExceptionTranslator.isRetryable(e)
+                    || callbackContext.getRetryCallbacks() >= RETRY_POLICY.getMaxCallbacks()) {
+                throw e;
+            }
+            final int delaySeconds = RETRY_POLICY.nextCallbackDelaySeconds(callbackContext.getRetryDelaySeconds());
+            callbackContext.setRetryCallbacks(callbackContext.getRetryCallbacks() + 1);
+            callbackContext.setRetryDelaySeconds(delaySeconds);
+            StructuredLogger.of(logger).warn("%s invocation hit a retryable error, resuming in %d seconds: %s",
+                    ResourceModel.TYPE_NAME, delaySeconds, e.getMessage());
+            return ProgressEvent.defaultInProgressHandler(callbackContext, delaySeconds, request.getDesiredResourceState());
+        }
+        callbackContext.setRetryCallbacks(0);
+        callbackContext.setRetryDelaySeconds(0);
+        return event;
+    }
+
+    /**
+     * @return whether the handler may return IN_PROGRESS to be re-invoked; read and list handlers may not
+     */
+    protected boolean isResumable() {
+        return true;
+    }
+
+    /**
+     * Attributes the service calls made through the returned client to the given call graph in the invocation's
+     * {@link ServiceCallMetrics}. Calls outside of any such scope count towards the handler's own call graph.
+     */
+    protected static <ClientT> ProxyClient<ClientT> forCallGraph(final ProxyClient<ClientT> proxyClient, final String callGraph) {
+        if (proxyClient instanceof CallGraphScoped) {
+            return ((CallGraphScoped<ClientT>) proxyClient).forCallGraph(callGraph);
+        }
+        return proxyClient;
     }
 
     protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -33,4 +133,54 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             CallbackContext callbackContext,
             ProxyClient<DocDbElasticClient> proxyClient,
             Logger logger);
+
+    /**
+     * Entry point for handlers that can issue independent calls concurrently. The async client is only built when a
+     * handler actually uses it; handlers that don't override this run on the synchronous client alone.
+     */
+    protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+            AmazonWebServicesClientProxy proxy,
+            ResourceHandlerRequest<ResourceModel> request,
+            CallbackContext callbackContext,
+            ProxyClient<DocDbElasticClient> proxyClient,
+            ProxyClient<DocDbElasticAsyncClient> asyncProxyClient,
+            Logger logger) {
+
+        return handleRequest(proxy, request, callbackContext, proxyClient, logger);
+    }
+
+    /**
+     * Builds the final model from the ACTIVE cluster stored by the stabilizer instead of reading it again. Falls back
+     * to a full read when no stabilized cluster is available.
+     *
+     * @param knownTags tags the handler knows the cluster to have, or null if they could have changed and must be listed
+     *
+     * @return success event with the resource model
+     */
+    protected ProgressEvent<ResourceModel, CallbackContext> readFromStabilizedCluster(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final ProxyClient<DocDbElasticClient> proxyClient,
+            final Map<String, String> knownTags,
+            final Logger logger) {
+
+        final Cluster cluster = callbackContext.getCluster();
+        if (cluster == null || cluster.status() != Status.ACTIVE) {
+            return new ReadHandler().handleRequest(proxy, request, callbackContext,
+                                                   forCallGraph(proxyClient, CALL_GRAPH_PREFIX + "Read"), logger);
+        }
+
+        final Set<Tag> tags;
+        if (knownTags != null) {
+            tags = TagHelper.convertToCfnTags(knownTags);
+        } else {
+            final ListTagsForResourceResponse listTagsForResourceResponse =
+                    proxyClient.injectCredentialsAndInvokeV2(RequestTranslator.translateToListTagsRequest(cluster.clusterArn()),
+                                                             proxyClient.client()::listTagsForResource);
+            tags = TagHelper.convertToCfnTags(listTagsForResourceResponse.tags());
+        }
+
+        return ProgressEvent.defaultSuccessHandler(ResponseTranslator.translateFromCluster(cluster, tags));
+    }
 }
@@ -0,0 +1,32 @@
+package software.amazon.docdbelastic.cluster;
+
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+
+/**
+ * Outcome of reading one cluster in a bulk read: either its full model or the error that kept it from being read.
+ */
+@lombok.Getter
+@lombok.ToString
+public class BulkReadResult {
+    private final String clusterArn;
+    private final ResourceModel model;
+    private final BaseHandlerException error;
+
+    private BulkReadResult(final String clusterArn, final ResourceModel model, final BaseHandlerException error) {
+        this.clusterArn = clusterArn;
+        this.model = model;
+        this.error = error;
+    }
+
+    static BulkReadResult success(final String clusterArn, final ResourceModel model) {
+        return new BulkReadResult(clusterArn, model, null);
+    }
+
+    static BulkReadResult failure(final String clusterArn, final BaseHandlerException error) {
+        return new BulkReadResult(clusterArn, null, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
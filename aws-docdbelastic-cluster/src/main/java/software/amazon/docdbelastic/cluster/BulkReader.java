@@ -0,0 +1,75 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+
+/**
+ * Reads the full models of many clusters at once, for tooling and imports that would otherwise run one ReadHandler
+ * invocation per cluster. Clusters are read concurrently as set by {@link HydrationOptions}, through the same rate
+ * limiter, read coalescing and GetCluster cache as the handlers, and the service calls are reported as the BulkRead
+ * operation.
+ */
+public class BulkReader {
+    static final String OPERATION = "BulkRead";
+
+    private final HydrationOptions options;
+
+    public BulkReader() {
+        this(HydrationOptions.builder().build());
+    }
+
+    public BulkReader(final HydrationOptions options) {
+        this.options = options;
+    }
+
+    /**
+     * @param clusterArns ARNs of the clusters to read
+     * @return result of each ARN, in the order the ARNs were given; a failed read does not affect the others
+     */
+    public Map<String, BulkReadResult> read(final AmazonWebServicesClientProxy proxy,
+                                            final Collection<String> clusterArns,
+                                            final Logger logger) {
+        final ServiceCallMetrics metrics = new ServiceCallMetrics(OPERATION);
+        try {
+            return new ClusterHydrator(
+                    BaseHandlerStd.asyncProxyClient(proxy, scopeOf(clusterArns), CallerIdentity.of(proxy), metrics,
+                            BaseHandlerStd.CALL_GRAPH_PREFIX + OPERATION),
+                    options, StructuredLogger.of(logger).with("operation", OPERATION))
+                    .readAll(clusterArns);
+        } finally {
+            metrics.emit(logger);
+        }
+    }
+
+    /**
+     * @return account and region of the clusters, which are those of the proxy's credentials and client, so the first
+     * ARN given tells them all
+     */
+    private static String scopeOf(final Collection<String> clusterArns) {
+        for (final String clusterArn : clusterArns) {
+            if (clusterArn != null) {
+                return StatusPoller.scopeOf(clusterArn);
+            }
+        }
+        return "";
+    }
+
+    /**
+     * @param models models holding at least the cluster ARN
+     * @return result of each model's ARN, in the order the models were given
+     */
+    public Map<String, BulkReadResult> readModels(final AmazonWebServicesClientProxy proxy,
+                                                  final Collection<ResourceModel> models,
+                                                  final Logger logger) {
+        final List<String> clusterArns = new ArrayList<>(models.size());
+        for (final ResourceModel model : models) {
+            clusterArns.add(model.getClusterArn());
+        }
+        return read(proxy, clusterArns, logger);
+    }
+}
@@ -0,0 +1,146 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.services.docdbelastic.model.DeleteClusterRequest;
+import software.amazon.awssdk.services.docdbelastic.model.GetClusterRequest;
+import software.amazon.awssdk.services.docdbelastic.model.GetClusterResponse;
+import software.amazon.awssdk.services.docdbelastic.model.TagResourceRequest;
+import software.amazon.awssdk.services.docdbelastic.model.UntagResourceRequest;
+import software.amazon.awssdk.services.docdbelastic.model.UpdateClusterRequest;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * Proxy client answering GetCluster from its caller's responses in a {@link GetClusterCache} and evicting the cluster of every Update, Delete,
+ * Tag and Untag call, both before the call and once it is answered, so that a read racing the change cannot put the
+ * old state back. A CreateCluster call has nothing to evict: a cluster is only cached once it is ACTIVE.
+ */
+public class CachingProxyClient<ClientT> implements CallGraphScoped<ClientT> {
+    private static final String GET_CLUSTER = "GetCluster";
+
+    private final ProxyClient<ClientT> delegate;
+    private final GetClusterCache cache;
+    private final String caller;
+    private final ServiceCallMetrics metrics;
+    private final String callGraph;
+
+    CachingProxyClient(final ProxyClient<ClientT> delegate,
+                       final GetClusterCache cache,
+                       final String caller,
+                       final ServiceCallMetrics metrics,
+                       final String callGraph) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.caller = caller;
+        this.metrics = metrics;
+        this.callGraph = callGraph;
+    }
+
+    @Override
+    public CachingProxyClient<ClientT> forCallGraph(final String callGraph) {
+        return new CachingProxyClient<>(BaseHandlerStd.forCallGraph(delegate, callGraph), cache, caller, metrics, callGraph);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT
+    injectCredentialsAndInvokeV2(final RequestT request, final Function<RequestT, ResponseT> requestFunction) {
+        if (request instanceof GetClusterRequest) {
+            final String clusterArn = ((GetClusterRequest) request).clusterArn();
+            final ResponseT cached = lookup(clusterArn);
+            if (cached != null) {
+                return cached;
+            }
+            final ResponseT response = delegate.injectCredentialsAndInvokeV2(request, requestFunction);
+            cache.put(caller, clusterArn, (GetClusterResponse) response);
+            return response;
+        }
+
+        final String changedArn = changedArn(request);
+        if (changedArn == null) {
+            return delegate.injectCredentialsAndInvokeV2(request, requestFunction);
+        }
+        cache.invalidate(changedArn);
+        try {
+            return delegate.injectCredentialsAndInvokeV2(request, requestFunction);
+        } finally {
+            cache.invalidate(changedArn);
+        }
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT>
+    injectCredentialsAndInvokeV2Async(final RequestT request,
+                                      final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+        if (request instanceof GetClusterRequest) {
+            final String clusterArn = ((GetClusterRequest) request).clusterArn();
+            final ResponseT cached = lookup(clusterArn);
+            if (cached != null) {
+                return CompletableFuture.completedFuture(cached);
+            }
+            return delegate.injectCredentialsAndInvokeV2Async(request, requestFunction).whenComplete((response, error) -> {
+                if (response != null) {
+                    cache.put(caller, clusterArn, (GetClusterResponse) response);
+                }
+            });
+        }
+
+        final String changedArn = changedArn(request);
+        if (changedArn == null) {
+            return delegate.injectCredentialsAndInvokeV2Async(request, requestFunction);
+        }
+        cache.invalidate(changedArn);
+        return delegate.injectCredentialsAndInvokeV2Async(request, requestFunction)
+                .whenComplete((response, error) -> cache.invalidate(changedArn));
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>> IterableT
+    injectCredentialsAndInvokeIterableV2(final RequestT request, final Function<RequestT, IterableT> requestFunction) {
+        return delegate.injectCredentialsAndInvokeIterableV2(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT>
+    injectCredentialsAndInvokeV2InputStream(final RequestT request,
+                                            final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction) {
+        return delegate.injectCredentialsAndInvokeV2InputStream(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT>
+    injectCredentialsAndInvokeV2Bytes(final RequestT request,
+                                      final Function<RequestT, ResponseBytes<ResponseT>> requestFunction) {
+        return delegate.injectCredentialsAndInvokeV2Bytes(request, requestFunction);
+    }
+
+    @Override
+    public ClientT client() {
+        return delegate.client();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <ResponseT> ResponseT lookup(final String clusterArn) {
+        final GetClusterResponse cached = cache.get(caller, clusterArn);
+        metrics.recordCacheLookup(callGraph, GET_CLUSTER, cached != null);
+        return (ResponseT) cached;
+    }
+
+    private static String changedArn(final AwsRequest request) {
+        if (request instanceof UpdateClusterRequest) {
+            return ((UpdateClusterRequest) request).clusterArn();
+        } else if (request instanceof DeleteClusterRequest) {
+            return ((DeleteClusterRequest) request).clusterArn();
+        } else if (request instanceof TagResourceRequest) {
+            return ((TagResourceRequest) request).resourceArn();
+        } else if (request instanceof UntagResourceRequest) {
+            return ((UntagResourceRequest) request).resourceArn();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,14 @@
+package software.amazon.docdbelastic.cluster;
+
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * Proxy client layer that attributes its calls, or passes them on to a layer attributing them, to a call graph of the
+ * invocation's {@link ServiceCallMetrics}.
+ */
+interface CallGraphScoped<ClientT> extends ProxyClient<ClientT> {
+    /**
+     * @return the same client attributing its calls to the given call graph
+     */
+    ProxyClient<ClientT> forCallGraph(String callGraph);
+}
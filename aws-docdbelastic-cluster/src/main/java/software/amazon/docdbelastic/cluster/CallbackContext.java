@@ -1,5 +1,6 @@
 package software.amazon.docdbelastic.cluster;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import software.amazon.awssdk.services.docdbelastic.model.Cluster;
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 
@@ -9,4 +10,19 @@ import software.amazon.cloudformation.proxy.StdCallbackContext;
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
     private Cluster cluster;
+    private Long stabilizationStartTime;
+    private Long firstStatusCheckTime;
+    private boolean confirmingStatusSeen;
+    private boolean tagsSynced;
+    private int retryCallbacks;
+    private int retryDelaySeconds;
+    private int invocationAttempt;
+    private int mutationGateWaits;
+    /**
+     * {@link System#nanoTime()} by which the current invocation must stop waiting in-process; not kept across
+     * invocations
+     */
+    @lombok.Getter(onMethod_ = {@JsonIgnore})
+    @lombok.Setter(onMethod_ = {@JsonIgnore})
+    private transient Long invocationDeadline;
 }
@@ -0,0 +1,35 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.services.docdbelastic.model.GetClusterRequest;
+import software.amazon.awssdk.services.docdbelastic.model.GetClusterResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+
+/**
+ * Identifies the caller whose credentials a proxy injects into service requests, so that state shared by every
+ * invocation on the container, like cached or coalesced responses, is only shared between invocations of the same
+ * caller. A response read with one caller's credentials is never handed to another caller, who may not be allowed to
+ * read the cluster.
+ */
+final class CallerIdentity {
+    private CallerIdentity() {
+    }
+
+    /**
+     * Reads the credentials the proxy injects into a request without sending it
+     *
+     * @return access key ID of the caller's credentials, or an empty string if the proxy injects none
+     */
+    static String of(final AmazonWebServicesClientProxy proxy) {
+        final AtomicReference<String> identity = new AtomicReference<>("");
+        proxy.injectCredentialsAndInvokeV2(GetClusterRequest.builder().build(), (GetClusterRequest request) -> {
+            request.overrideConfiguration()
+                    .flatMap(AwsRequestOverrideConfiguration::credentialsProvider)
+                    .ifPresent(provider -> identity.set(provider.resolveCredentials().accessKeyId()));
+            return (GetClusterResponse) null;
+        });
+        return identity.get();
+    }
+}
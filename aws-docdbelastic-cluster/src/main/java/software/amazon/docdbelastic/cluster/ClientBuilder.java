@@ -1,12 +1,78 @@
 package software.amazon.docdbelastic.cluster;
 
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import software.amazon.awssdk.core.SdkSystemSetting;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.docdbelastic.DocDbElasticAsyncClient;
+import software.amazon.awssdk.services.docdbelastic.DocDbElasticAsyncClientBuilder;
 import software.amazon.awssdk.services.docdbelastic.DocDbElasticClient;
+import software.amazon.awssdk.services.docdbelastic.DocDbElasticClientBuilder;
 import software.amazon.cloudformation.LambdaWrapper;
 
+/**
+ * Hands out service clients that are built once per region and endpoint and then reused by every invocation on a
+ * warm container. The clients carry no credentials of their own; the proxy injects the caller's credentials into
+ * each request. The SDK's own retries are turned off: {@link RetryingProxyClient} and the handler callbacks are the
+ * only retry layers, so a throttled call is not repeated by both.
+ */
 public class ClientBuilder {
+    private static final ClientOverrideConfiguration NO_RETRIES = ClientOverrideConfiguration.builder()
+            .retryPolicy(software.amazon.awssdk.core.retry.RetryPolicy.none())
+            .build();
+    private static final Map<String, DocDbElasticClient> CLIENTS = new ConcurrentHashMap<>();
+    private static final Map<String, DocDbElasticAsyncClient> ASYNC_CLIENTS = new ConcurrentHashMap<>();
+
     public static DocDbElasticClient getClient() {
-        return DocDbElasticClient.builder()
-                .httpClient(LambdaWrapper.HTTP_CLIENT)
-                .build();
+        return getClient(defaultRegion(), null);
+    }
+
+    public static DocDbElasticAsyncClient getAsyncClient() {
+        return getAsyncClient(defaultRegion(), null);
+    }
+
+    /**
+     * @param region region of the client, or null to let the SDK resolve it
+     * @param endpoint endpoint override, or null for the regional endpoint
+     * @return the cached client for the region and endpoint
+     */
+    static DocDbElasticClient getClient(final Region region, final URI endpoint) {
+        return CLIENTS.computeIfAbsent(cacheKey(region, endpoint), key -> {
+            final DocDbElasticClientBuilder builder = DocDbElasticClient.builder()
+                    .httpClient(LambdaWrapper.HTTP_CLIENT)
+                    .overrideConfiguration(NO_RETRIES);
+            if (region != null) {
+                builder.region(region);
+            }
+            if (endpoint != null) {
+                builder.endpointOverride(endpoint);
+            }
+            return builder.build();
+        });
+    }
+
+    static DocDbElasticAsyncClient getAsyncClient(final Region region, final URI endpoint) {
+        return ASYNC_CLIENTS.computeIfAbsent(cacheKey(region, endpoint), key -> {
+            final DocDbElasticAsyncClientBuilder builder = DocDbElasticAsyncClient.builder()
+                    .overrideConfiguration(NO_RETRIES);
+            if (region != null) {
+                builder.region(region);
+            }
+            if (endpoint != null) {
+                builder.endpointOverride(endpoint);
+            }
+            return builder.build();
+        });
+    }
+
+    private static Region defaultRegion() {
+        return SdkSystemSetting.AWS_REGION.getStringValue().map(Region::of).orElse(null);
+    }
+
+    private static String cacheKey(final Region region, final URI endpoint) {
+        return (region == null ? "" : region.id()) + "|" + (endpoint == null ? "" : endpoint.toString());
     }
 }
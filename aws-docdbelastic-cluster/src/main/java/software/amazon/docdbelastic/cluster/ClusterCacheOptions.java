@@ -0,0 +1,38 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.time.Duration;
+import java.util.function.UnaryOperator;
+
+/**
+ * Controls the in-JVM cache of {@link GetClusterCache}. The shared cache is turned on with the defaults by setting the
+ * {@value #ENVIRONMENT_VARIABLE} environment variable of the handler function to true.
+ */
+@lombok.Builder
+@lombok.Getter
+@lombok.ToString
+public class ClusterCacheOptions {
+    static final String ENVIRONMENT_VARIABLE = "GET_CLUSTER_CACHE";
+
+    /**
+     * How long a GetCluster response is served from the cache
+     */
+    @lombok.Builder.Default
+    private final Duration ttl = Duration.ofSeconds(5L);
+
+    /**
+     * Clusters kept at most; the least recently read one is evicted first
+     */
+    @lombok.Builder.Default
+    private final int maxEntries = 256;
+
+    /**
+     * @return the default options if the {@value #ENVIRONMENT_VARIABLE} environment variable is true, otherwise null
+     */
+    public static ClusterCacheOptions fromEnvironment() {
+        return fromEnvironment(System::getenv);
+    }
+
+    static ClusterCacheOptions fromEnvironment(final UnaryOperator<String> environment) {
+        return Boolean.parseBoolean(environment.apply(ENVIRONMENT_VARIABLE)) ? ClusterCacheOptions.builder().build() : null;
+    }
+}
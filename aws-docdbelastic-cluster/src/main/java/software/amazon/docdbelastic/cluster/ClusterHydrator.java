@@ -0,0 +1,180 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import software.amazon.awssdk.services.docdbelastic.DocDbElasticAsyncClient;
+import software.amazon.awssdk.services.docdbelastic.model.GetClusterResponse;
+import software.amazon.awssdk.services.docdbelastic.model.ListTagsForResourceResponse;
+import software.amazon.cloudformation.exceptions.CfnInternalFailureException;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * Reads many clusters concurrently through the async client, with at most {@link HydrationOptions#getParallelism()}
+ * clusters in flight and a per-cluster timeout that starts with the cluster's calls. The calls of a cluster that times
+ * out are cancelled, which frees its slot for the next cluster; a call shared with other readers through the {@link ReadCoalescer} keeps running for
+ * them.
+ */
+public class ClusterHydrator {
+    private static final ScheduledThreadPoolExecutor TIMEOUTS = new ScheduledThreadPoolExecutor(1, runnable -> {
+        final Thread thread = new Thread(runnable, "cluster-hydrator-timeouts");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        TIMEOUTS.setRemoveOnCancelPolicy(true);
+    }
+
+    private final ProxyClient<DocDbElasticAsyncClient> asyncProxyClient;
+    private final HydrationOptions options;
+    private final StructuredLogger logger;
+
+    public ClusterHydrator(ProxyClient<DocDbElasticAsyncClient> asyncProxyClient, HydrationOptions options, Logger logger) {
+        this.asyncProxyClient = asyncProxyClient;
+        this.options = options;
+        this.logger = StructuredLogger.of(logger);
+    }
+
+    /**
+     * Replaces each identifier-only model with the full model of its cluster. A cluster that cannot be read in time
+     * keeps its identifier-only model so that one slow or vanished cluster does not fail the whole page; the clusters
+     * left that way are logged. Callers needing to tell them apart use {@link #readAll}.
+     *
+     * @param models models holding at least the cluster ARN
+     * @return hydrated models, in the same order
+     */
+    public List<ResourceModel> hydrate(final List<ResourceModel> models) {
+        final List<String> clusterArns = new ArrayList<>(models.size());
+        for (final ResourceModel model : models) {
+            clusterArns.add(model.getClusterArn());
+        }
+        final Map<String, BulkReadResult> results = readAll(clusterArns);
+
+        final List<ResourceModel> hydrated = new ArrayList<>(models.size());
+        final List<String> notHydrated = new ArrayList<>();
+        for (final ResourceModel model : models) {
+            final BulkReadResult result = results.get(model.getClusterArn());
+            if (result.isSuccess()) {
+                hydrated.add(result.getModel());
+            } else {
+                hydrated.add(model);
+                notHydrated.add(model.getClusterArn());
+            }
+        }
+        if (!notHydrated.isEmpty()) {
+            logger.warn("%d of %d %s models were returned with their identifier only: %s", notHydrated.size(),
+                    models.size(), ResourceModel.TYPE_NAME, notHydrated);
+        }
+        return hydrated;
+    }
+
+    /**
+     * Reads the full model of each cluster. A cluster that cannot be read in time gets its own error instead of
+     * failing the others.
+     *
+     * @param clusterArns ARNs of the clusters; an ARN given more than once is read once
+     * @return result of each ARN, in the order the ARNs were given
+     */
+    public Map<String, BulkReadResult> readAll(final Collection<String> clusterArns) {
+        final Semaphore permits = new Semaphore(options.getParallelism());
+        final Map<String, CompletableFuture<ResourceModel>> pending = new LinkedHashMap<>();
+        for (final String clusterArn : new LinkedHashSet<>(clusterArns)) {
+            pending.put(clusterArn, read(clusterArn, permits));
+        }
+
+        final Map<String, BulkReadResult> results = new LinkedHashMap<>();
+        for (final Map.Entry<String, CompletableFuture<ResourceModel>> entry : pending.entrySet()) {
+            results.put(entry.getKey(), await(entry.getValue(), entry.getKey()));
+        }
+        return results;
+    }
+
+    private CompletableFuture<ResourceModel> read(final String clusterArn, final Semaphore permits) {
+        final CompletableFuture<ResourceModel> result = new CompletableFuture<>();
+        try {
+            // every slot is freed within the call timeout
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.completeExceptionally(e);
+            return result;
+        }
+
+        try {
+            // the futures of the SDK calls themselves; the proxy returns futures derived from them, whose
+            // cancellation would not reach the SDK
+            final List<CompletableFuture<?>> sdkCalls = new CopyOnWriteArrayList<>();
+            final CompletableFuture<GetClusterResponse> getCluster =
+                    asyncProxyClient.injectCredentialsAndInvokeV2Async(RequestTranslator.translateToReadRequest(clusterArn),
+                            request -> tracked(sdkCalls, asyncProxyClient.client().getCluster(request)));
+            final CompletableFuture<ListTagsForResourceResponse> listTags = options.isIncludeTags()
+                    ? asyncProxyClient.injectCredentialsAndInvokeV2Async(RequestTranslator.translateToListTagsRequest(clusterArn),
+                            request -> tracked(sdkCalls, asyncProxyClient.client().listTagsForResource(request)))
+                    : CompletableFuture.completedFuture(null);
+
+            final ScheduledFuture<?> timeout = TIMEOUTS.schedule(() -> result.completeExceptionally(new TimeoutException(
+                    clusterArn + " was not read within " + options.getCallTimeout())),
+                    options.getCallTimeout().toNanos(), TimeUnit.NANOSECONDS);
+            result.whenComplete((model, e) -> {
+                timeout.cancel(false);
+                if (e instanceof TimeoutException) {
+                    // cancelling the calls fails them, which frees the slot
+                    sdkCalls.forEach(call -> call.cancel(true));
+                    getCluster.cancel(true);
+                    listTags.cancel(true);
+                }
+            });
+            getCluster.thenCombine(listTags, (cluster, tags) ->
+                            ResponseTranslator.translateFromReadResponse(cluster, tags == null ? null : TagHelper.convertToCfnTags(tags.tags())))
+                    .whenComplete((model, e) -> {
+                        permits.release();
+                        if (e != null) {
+                            result.completeExceptionally(e);
+                        } else {
+                            result.complete(model);
+                        }
+                    });
+        } catch (RuntimeException e) {
+            permits.release();
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    private static <T> CompletableFuture<T> tracked(final List<CompletableFuture<?>> sdkCalls, final CompletableFuture<T> call) {
+        sdkCalls.add(call);
+        return call;
+    }
+
+    private BulkReadResult await(final CompletableFuture<ResourceModel> future, final String clusterArn) {
+        try {
+            return BulkReadResult.success(clusterArn, future.get());
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                logger.warn("%s [%s] was not read within %s.", ResourceModel.TYPE_NAME,
+                        clusterArn, options.getCallTimeout());
+                return BulkReadResult.failure(clusterArn, new CfnInternalFailureException(e.getCause()));
+            }
+            logger.warn("%s [%s] could not be read: %s", ResourceModel.TYPE_NAME,
+                    clusterArn, e.getCause());
+            return BulkReadResult.failure(clusterArn, ExceptionTranslator.translateFailure(e.getCause()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return BulkReadResult.failure(clusterArn, new CfnInternalFailureException(e));
+        }
+    }
+}
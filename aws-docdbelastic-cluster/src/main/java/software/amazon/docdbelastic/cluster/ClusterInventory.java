@@ -0,0 +1,212 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+import software.amazon.awssdk.services.docdbelastic.DocDbElasticClient;
+import software.amazon.awssdk.services.docdbelastic.model.Cluster;
+import software.amazon.awssdk.services.docdbelastic.model.ClusterInList;
+import software.amazon.awssdk.services.docdbelastic.model.ListClustersResponse;
+import software.amazon.awssdk.services.docdbelastic.model.Status;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+/**
+ * Clusters of each account and region seen through ListClusters, shared by every invocation on the container, so that
+ * name to ARN and ARN to status lookups don't list all clusters each time. Pages are listed only as far as a lookup
+ * needs and the next lookup carries on from there; after {@link InventoryOptions#getTtl()} an account's clusters are
+ * listed afresh. Creates and deletes made by the handlers are applied as they happen.
+ *
+ * <p>A cluster missing from a complete listing may have been created since by someone else, so such a miss lists the
+ * clusters again before it is reported. Statuses may be up to the TTL old; callers needing the current status of a
+ * cluster read it with GetCluster.
+ *
+ * <p>Each account and region is locked on its own, so a lookup paging through the clusters of one account does not
+ * hold up lookups in others. Lookups in the same account wait for each other and share the pages listed.
+ */
+public class ClusterInventory {
+    private static volatile ClusterInventory shared = new ClusterInventory(InventoryOptions.builder().build());
+
+    private final InventoryOptions options;
+    private final LongSupplier nanoClock;
+    private final ConcurrentMap<String, Listing> listings = new ConcurrentHashMap<>();
+
+    /**
+     * Clusters of one scope; guarded by its own monitor
+     */
+    private static final class Listing {
+        private long listedAt;
+        private final Map<String, String> arnsByName = new HashMap<>();
+        private final Map<String, ClusterInList> clustersByArn = new HashMap<>();
+        private String nextToken;
+        private boolean complete;
+
+        private Listing(final long listedAt) {
+            this.listedAt = listedAt;
+        }
+
+        private void reset(final long now) {
+            listedAt = now;
+            arnsByName.clear();
+            clustersByArn.clear();
+            nextToken = null;
+            complete = false;
+        }
+
+        private void put(final ClusterInList cluster) {
+            arnsByName.put(cluster.clusterName(), cluster.clusterArn());
+            clustersByArn.put(cluster.clusterArn(), cluster);
+        }
+
+        private void remove(final String clusterArn) {
+            final ClusterInList cluster = clustersByArn.remove(clusterArn);
+            if (cluster != null) {
+                arnsByName.remove(cluster.clusterName(), clusterArn);
+            }
+        }
+    }
+
+    public ClusterInventory(final InventoryOptions options) {
+        this(options, System::nanoTime);
+    }
+
+    ClusterInventory(final InventoryOptions options, final LongSupplier nanoClock) {
+        this.options = options;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * @return the inventory used by all handlers in this JVM
+     */
+    public static ClusterInventory shared() {
+        return shared;
+    }
+
+    /**
+     * Replaces the JVM-wide inventory with an empty one using the given settings
+     */
+    public static void configure(final InventoryOptions options) {
+        shared = new ClusterInventory(options);
+    }
+
+    /**
+     * @return key of the account and region the request's clusters live in
+     */
+    public static String scopeOf(final ResourceHandlerRequest<?> request) {
+        return request.getAwsAccountId() + "/" + request.getRegion();
+    }
+
+    /**
+     * @param proxyClient client of the account and region of the scope, used to list clusters not seen yet
+     * @param scope account and region, see {@link #scopeOf}
+     *
+     * @return ARN of the cluster of that name, or null if there is none
+     */
+    public String findArn(final ProxyClient<DocDbElasticClient> proxyClient,
+                          final String scope,
+                          final String clusterName) {
+        final Listing listing = current(scope);
+        synchronized (listing) {
+            expireIfStale(listing);
+            String clusterArn = listing.arnsByName.get(clusterName);
+            if (clusterArn == null && listing.complete) {
+                listing.reset(nanoClock.getAsLong());
+            }
+            while (clusterArn == null && !listing.complete) {
+                listPage(proxyClient, listing);
+                clusterArn = listing.arnsByName.get(clusterName);
+            }
+            return clusterArn;
+        }
+    }
+
+    /**
+     * @param proxyClient client of the account and region of the scope, used to list clusters not seen yet
+     * @param scope account and region, see {@link #scopeOf}
+     *
+     * @return status of the cluster as last listed, or null if there is no such cluster
+     */
+    public Status findStatus(final ProxyClient<DocDbElasticClient> proxyClient,
+                             final String scope,
+                             final String clusterArn) {
+        final Listing listing = current(scope);
+        synchronized (listing) {
+            expireIfStale(listing);
+            ClusterInList cluster = listing.clustersByArn.get(clusterArn);
+            if (cluster == null && listing.complete) {
+                listing.reset(nanoClock.getAsLong());
+            }
+            while (cluster == null && !listing.complete) {
+                listPage(proxyClient, listing);
+                cluster = listing.clustersByArn.get(clusterArn);
+            }
+            return cluster == null ? null : cluster.status();
+        }
+    }
+
+    /**
+     * Records a cluster the handler created or changed
+     */
+    public void record(final String scope, final Cluster cluster) {
+        if (cluster == null || cluster.clusterArn() == null) {
+            return;
+        }
+        final Listing listing = current(scope);
+        synchronized (listing) {
+            expireIfStale(listing);
+            listing.put(ClusterInList.builder()
+                    .clusterArn(cluster.clusterArn())
+                    .clusterName(cluster.clusterName())
+                    .status(cluster.status())
+                    .build());
+        }
+    }
+
+    /**
+     * Forgets a cluster the handler deleted or found gone; a later lookup of it lists the clusters again
+     */
+    public void remove(final String scope, final String clusterArn) {
+        final Listing listing = listings.get(scope);
+        if (listing != null) {
+            synchronized (listing) {
+                listing.remove(clusterArn);
+            }
+        }
+    }
+
+    int size(final String scope) {
+        final Listing listing = listings.get(scope);
+        if (listing == null) {
+            return 0;
+        }
+        synchronized (listing) {
+            return listing.clustersByArn.size();
+        }
+    }
+
+    private Listing current(final String scope) {
+        return listings.computeIfAbsent(scope, key -> new Listing(nanoClock.getAsLong()));
+    }
+
+    /**
+     * Must be called holding the listing's monitor
+     */
+    private void expireIfStale(final Listing listing) {
+        final long now = nanoClock.getAsLong();
+        if (now - listing.listedAt >= options.getTtl().toNanos()) {
+            listing.reset(now);
+        }
+    }
+
+    private void listPage(final ProxyClient<DocDbElasticClient> proxyClient, final Listing listing) {
+        final ListClustersResponse page = proxyClient.injectCredentialsAndInvokeV2(
+                RequestTranslator.translateToListRequest(listing.nextToken, options.getPageSize()),
+                proxyClient.client()::listClusters);
+        page.clusters().forEach(listing::put);
+        listing.nextToken = page.nextToken();
+        listing.complete = listing.nextToken == null;
+    }
+}
@@ -0,0 +1,89 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * Proxy client routing GetCluster and ListTagsForResource through a {@link ReadCoalescer} and counting in the
+ * invocation's {@link ServiceCallMetrics} how many of them joined a call already in flight.
+ */
+public class CoalescingProxyClient<ClientT> implements CallGraphScoped<ClientT> {
+    private final ProxyClient<ClientT> delegate;
+    private final ReadCoalescer coalescer;
+    private final String caller;
+    private final ServiceCallMetrics metrics;
+    private final String callGraph;
+
+    CoalescingProxyClient(final ProxyClient<ClientT> delegate,
+                          final ReadCoalescer coalescer,
+                          final String caller,
+                          final ServiceCallMetrics metrics,
+                          final String callGraph) {
+        this.delegate = delegate;
+        this.coalescer = coalescer;
+        this.caller = caller;
+        this.metrics = metrics;
+        this.callGraph = callGraph;
+    }
+
+    @Override
+    public CoalescingProxyClient<ClientT> forCallGraph(final String callGraph) {
+        return new CoalescingProxyClient<>(BaseHandlerStd.forCallGraph(delegate, callGraph), coalescer, caller, metrics,
+                callGraph);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT
+    injectCredentialsAndInvokeV2(final RequestT request, final Function<RequestT, ResponseT> requestFunction) {
+        final String key = ReadCoalescer.keyOf(caller, request);
+        if (key == null) {
+            return delegate.injectCredentialsAndInvokeV2(request, requestFunction);
+        }
+        return coalescer.call(key, () -> delegate.injectCredentialsAndInvokeV2(request, requestFunction),
+                joined -> metrics.recordCoalescing(callGraph, InstrumentedProxyClient.apiName(request), joined));
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT>
+    injectCredentialsAndInvokeV2Async(final RequestT request,
+                                      final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+        final String key = ReadCoalescer.keyOf(caller, request);
+        if (key == null) {
+            return delegate.injectCredentialsAndInvokeV2Async(request, requestFunction);
+        }
+        return coalescer.callAsync(key, () -> delegate.injectCredentialsAndInvokeV2Async(request, requestFunction),
+                joined -> metrics.recordCoalescing(callGraph, InstrumentedProxyClient.apiName(request), joined));
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>> IterableT
+    injectCredentialsAndInvokeIterableV2(final RequestT request, final Function<RequestT, IterableT> requestFunction) {
+        return delegate.injectCredentialsAndInvokeIterableV2(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT>
+    injectCredentialsAndInvokeV2InputStream(final RequestT request,
+                                            final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction) {
+        return delegate.injectCredentialsAndInvokeV2InputStream(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT>
+    injectCredentialsAndInvokeV2Bytes(final RequestT request,
+                                      final Function<RequestT, ResponseBytes<ResponseT>> requestFunction) {
+        return delegate.injectCredentialsAndInvokeV2Bytes(request, requestFunction);
+    }
+
+    @Override
+    public ClientT client() {
+        return delegate.client();
+    }
+}
@@ -9,7 +9,6 @@ import software.amazon.awssdk.awscore.AwsResponse;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.docdbelastic.DocDbElasticClient;
 import software.amazon.awssdk.services.docdbelastic.model.Cluster;
-import software.amazon.awssdk.services.docdbelastic.model.ConflictException;
 import software.amazon.awssdk.services.docdbelastic.model.CreateClusterResponse;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
@@ -19,10 +18,13 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.cloudformation.proxy.delay.Constant;
 
 public class CreateHandler extends BaseHandlerStd {
-    protected static final Constant CREATE_BACKOFF_STRATEGY = Constant.of().timeout(Duration.ofMinutes(60L)).delay(Duration.ofSeconds(30L)).build();
+    protected static final StabilizationDelay CREATE_BACKOFF_STRATEGY = StabilizationDelay.builder()
+            .timeout(Duration.ofMinutes(60L))
+            .initialDelay(Duration.ofSeconds(5L))
+            .maxDelay(Duration.ofSeconds(60L))
+            .build();
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -34,6 +36,8 @@ public class CreateHandler extends BaseHandlerStd {
 
         final ResourceModel resourceModel = request.getDesiredResourceState();
         final Map<String, String> tagsToCreate = TagHelper.generateTagsForCreate(request);
+        final StructuredLogger structuredLogger = StructuredLogger.of(logger);
+        final String caller = CallerIdentity.of(proxy);
 
         if (resourceModel.getAdminUserPassword() == null || resourceModel.getAdminUserPassword().isEmpty()) {
             throw new CfnInvalidRequestException("required key [AdminUserPassword] not found");
@@ -41,8 +45,8 @@ public class CreateHandler extends BaseHandlerStd {
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
                 .then(progress -> proxy.initiate(CALL_GRAPH_PREFIX + "Create", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                .translateToServiceRequest((model) -> RequestTranslator.translateToCreateRequest(model, tagsToCreate))
-                        .backoffDelay(CREATE_BACKOFF_STRATEGY)
+                .translateToServiceRequest((model) -> RequestTranslator.translateToCreateRequest(model, tagsToCreate, request.getClientRequestToken()))
+                        .backoffDelay(CREATE_BACKOFF_STRATEGY.forContext(progress.getCallbackContext()))
                         .makeServiceCall((awsRequest, client) -> {
                             AwsResponse awsResponse = null;
                             Cluster clusterStateSoFar = callbackContext.getCluster();
@@ -52,20 +56,27 @@ public class CreateHandler extends BaseHandlerStd {
                                     CreateClusterResponse response = client.injectCredentialsAndInvokeV2(awsRequest, client.client()::createCluster);
 
                                     resourceModel.setClusterArn(response.cluster().clusterArn());
+                                    ClusterInventory.shared().record(ClusterInventory.scopeOf(request), response.cluster());
+                                    // marks the cluster as created should a later call in this invocation fail and be resumed
+                                    callbackContext.setCluster(response.cluster());
                                 } catch (AwsServiceException e) {
+                                    // an earlier attempt of this create is answered by its client token, so a conflict is someone else's cluster
+
                                     throw ExceptionTranslator.translateFromServiceException(e);
                                 }
-                                logger.log(String.format("%s creation request successfully sent.", ResourceModel.TYPE_NAME));
+                                structuredLogger.info("%s creation request successfully sent.", ResourceModel.TYPE_NAME);
                             } else {
-                                logger.log(String.format("%s state is: %s", ResourceModel.TYPE_NAME, clusterStateSoFar.statusAsString()));
+                                structuredLogger.sampled("state", clusterStateSoFar.status(), "%s state is: %s",
+                                        ResourceModel.TYPE_NAME, clusterStateSoFar.statusAsString());
                             }
                             return awsResponse;
                         })
                         .stabilize((awsRequest, awsResponse, client, model, context) ->
-                                new ResourceStabilizer(client, logger).stabilizeCreate(model, context))
+                                new ResourceStabilizer(client, logger, ResourceStabilizer.CHECK_ONCE, caller)
+                                        .stabilizeCreate(model, context))
                         .progress()
 
                 )
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                .then(progress -> readFromStabilizedCluster(proxy, request, callbackContext, proxyClient, tagsToCreate, logger));
     }
 }
@@ -4,19 +4,28 @@ import java.time.Duration;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.docdbelastic.DocDbElasticClient;
 import software.amazon.awssdk.services.docdbelastic.model.Cluster;
+import software.amazon.awssdk.services.docdbelastic.model.ConflictException;
 import software.amazon.awssdk.services.docdbelastic.model.DeleteClusterResponse;
 import software.amazon.awssdk.services.docdbelastic.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.docdbelastic.model.Status;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.cloudformation.proxy.delay.Constant;
 
 public class DeleteHandler extends BaseHandlerStd {
-    protected static final Constant DELETE_BACKOFF_STRATEGY = Constant.of().timeout(Duration.ofMinutes(60L)).delay(Duration.ofSeconds(30L)).build();
+    protected static final StabilizationDelay DELETE_BACKOFF_STRATEGY = StabilizationDelay.builder()
+            .timeout(Duration.ofMinutes(60L))
+            .initialDelay(Duration.ofSeconds(2L))
+            .maxDelay(Duration.ofSeconds(30L))
+            .statusDelay(Status.DELETING, Duration.ofSeconds(15L))
+            .build();
+
+    protected static final LocalPolling DELETE_LOCAL_POLLING = LocalPolling.builder().build();
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -26,11 +35,26 @@ public class DeleteHandler extends BaseHandlerStd {
             ProxyClient<DocDbElasticClient> proxyClient,
             final Logger logger) {
 
+        final StructuredLogger structuredLogger = StructuredLogger.of(logger);
+        final String caller = CallerIdentity.of(proxy);
+        final MutationGate gate = new MutationGate(proxyClient, DELETE_BACKOFF_STRATEGY.forContext(callbackContext),
+                                                   DELETE_LOCAL_POLLING, logger);
+        // a cluster that is gone fails as not found without a DeleteCluster call, and one that is already DELETING,
+        // e.g. after a retried rollback, is only awaited
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-                .then(progress ->
+                .then(progress -> callbackContext.getCluster() == null
+                        ? gate.awaitMutable(progress, cluster -> {
+                            if (cluster.status() == Status.DELETING) {
+                                structuredLogger.info("%s [%s] is already being deleted.", ResourceModel.TYPE_NAME, cluster.clusterArn());
+                                callbackContext.setCluster(cluster);
+                            }
+                            return progress;
+                        })
+                        : progress)
+                .then(progress -> gate.retryConflicts(progress, () ->
                         proxy.initiate(CALL_GRAPH_PREFIX + "Delete", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                                 .translateToServiceRequest(RequestTranslator::translateToDeleteRequest)
-                                .backoffDelay(DELETE_BACKOFF_STRATEGY)
+                                .backoffDelay(DELETE_BACKOFF_STRATEGY.forContext(progress.getCallbackContext()))
                                 .makeServiceCall((awsRequest, client) -> {
                                     DeleteClusterResponse awsResponse = null;
 
@@ -40,20 +64,26 @@ public class DeleteHandler extends BaseHandlerStd {
                                         try {
                                             awsResponse = client.injectCredentialsAndInvokeV2(awsRequest,
                                                     client.client()::deleteCluster);
+                                            callbackContext.setCluster(awsResponse.cluster());
+                                            ClusterInventory.shared().remove(ClusterInventory.scopeOf(request), awsRequest.clusterArn());
+                                        } catch (ConflictException e) {
+                                            throw new CfnResourceConflictException(e);
                                         } catch (AwsServiceException e) {
                                             throw ExceptionTranslator.translateFromServiceException(e);
                                         }
 
-                                        logger.log(String.format("%s deletion request successfully sent.", ResourceModel.TYPE_NAME));
+                                        structuredLogger.info("%s deletion request successfully sent.", ResourceModel.TYPE_NAME);
                                     } else {
-                                        logger.log(String.format("%s state is: %s", ResourceModel.TYPE_NAME, clusterStateSoFar.statusAsString()));
+                                        structuredLogger.sampled("state", clusterStateSoFar.status(), "%s state is: %s",
+                                                ResourceModel.TYPE_NAME, clusterStateSoFar.statusAsString());
                                     }
                                     return awsResponse;
                                 })
                                 .stabilize((awsRequest, awsResponse, client, model, context) ->
-                                        new ResourceStabilizer(client, logger).stabilizeDelete(model, context))
+                                        new ResourceStabilizer(client, logger, DELETE_LOCAL_POLLING, caller)
+                                                .stabilizeDelete(model, context))
                                 .progress()
-                )
+                ))
                 .then(progress -> ProgressEvent.defaultSuccessHandler(null));
     }
 }
@@ -1,6 +1,12 @@
 package software.amazon.docdbelastic.cluster;
 
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.services.docdbelastic.model.InternalServerException;
 import software.amazon.awssdk.services.docdbelastic.model.AccessDeniedException;
 import software.amazon.awssdk.services.docdbelastic.model.ConflictException;
@@ -14,6 +20,7 @@ import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInternalFailureException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNetworkFailureException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
 import software.amazon.cloudformation.exceptions.CfnThrottlingException;
@@ -45,4 +52,90 @@ public class ExceptionTranslator {
             return new CfnGeneralServiceException(e);
         }
     }
+
+    /**
+     * Waits for an async service call and translates its service exception like a synchronous call would be
+     *
+     * @param future pending service call
+     *
+     * @return the response
+     */
+    static <T> T join(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof AwsServiceException) {
+                throw translateFromServiceException((AwsServiceException) e.getCause());
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @param error failure of a service call
+     *
+     * @return whether the service rejected the call because of its rate
+     */
+    static boolean isThrottling(final Throwable error) {
+        return error instanceof ThrottlingException
+                || error instanceof AwsServiceException && ((AwsServiceException) error).isThrottlingException();
+    }
+
+    /**
+     * Classifies a failure, looking through the cfn and completion exceptions it may be wrapped in. Throttling, server
+     * side errors and I/O failures are transient; everything else, e.g. validation errors or conflicts, is terminal.
+     *
+     * @param error failure of a service call or of a handler invocation
+     *
+     * @return whether repeating the same call later can succeed
+     */
+    static boolean isRetryable(final Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (isThrottling(cause) || cause instanceof InternalServerException) {
+                return true;
+            }
+            if (cause instanceof AwsServiceException) {
+                return ((AwsServiceException) cause).statusCode() >= 500;
+            }
+            if (cause instanceof SdkClientException) {
+                return ((SdkException) cause).retryable() || cause.getCause() instanceof IOException;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Translates the failure of a call whose error is reported instead of thrown
+     *
+     * @param error failure of a service call, possibly wrapped in a completion exception
+     *
+     * @return the cfn exception for the failure
+     */
+    static BaseHandlerException translateFailure(final Throwable error) {
+        final Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof BaseHandlerException) {
+            return (BaseHandlerException) cause;
+        } else if (cause instanceof AwsServiceException) {
+            return translateFromServiceException((AwsServiceException) cause);
+        } else if (cause instanceof SdkClientException) {
+            return new CfnNetworkFailureException(cause);
+        }
+        return new CfnInternalFailureException(cause);
+    }
+
+    /**
+     * Translates a failure that is still retryable once retries have run out
+     *
+     * @param error failure of a service call
+     *
+     * @return the cfn exception for service and client errors; any other exception unchanged
+     */
+    static RuntimeException translateRetryable(final RuntimeException error) {
+        if (error instanceof AwsServiceException) {
+            return translateFromServiceException((AwsServiceException) error);
+        } else if (error instanceof SdkClientException) {
+            return new CfnNetworkFailureException(error);
+        }
+        return error;
+    }
 }
@@ -0,0 +1,128 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import software.amazon.awssdk.services.docdbelastic.model.GetClusterResponse;
+import software.amazon.awssdk.services.docdbelastic.model.Status;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * Recent GetCluster responses by cluster ARN and {@link CallerIdentity caller}, shared by every invocation on the
+ * container so that reads of the same cluster by the same caller within seconds of each other make one call. Only
+ * ACTIVE clusters are cached: a cluster in transition is always read from the service, so stabilization sees every
+ * status change. Create, Update, Delete, Tag and Untag calls through {@link #caching} evict the cluster they change
+ * for every caller.
+ *
+ * <p>Caching is opt-in: the shared cache holds nothing unless the {@value ClusterCacheOptions#ENVIRONMENT_VARIABLE}
+ * environment variable of the handler function is set to true, or {@link #configure} is called.
+ */
+public class GetClusterCache {
+    private static volatile GetClusterCache shared = new GetClusterCache(ClusterCacheOptions.fromEnvironment());
+
+    private final ClusterCacheOptions options;
+    private final LongSupplier nanoClock;
+    // responses of each cluster by caller, least recently read cluster first
+    private final Map<String, Map<String, Entry>> entries;
+
+    private static final class Entry {
+        private final GetClusterResponse response;
+        private final long expiresAt;
+
+        private Entry(final GetClusterResponse response, final long expiresAt) {
+            this.response = response;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * @param options cache settings, or null for a cache that holds nothing
+     */
+    public GetClusterCache(final ClusterCacheOptions options) {
+        this(options, System::nanoTime);
+    }
+
+    GetClusterCache(final ClusterCacheOptions options, final LongSupplier nanoClock) {
+        this.options = options;
+        this.nanoClock = nanoClock;
+        final int maxEntries = options == null ? 0 : options.getMaxEntries();
+        this.entries = new LinkedHashMap<String, Map<String, Entry>>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Map<String, Entry>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * @return the cache used by all handlers in this JVM
+     */
+    public static GetClusterCache shared() {
+        return shared;
+    }
+
+    /**
+     * Turns the JVM-wide cache on with the given settings, or off with null; cached responses are dropped
+     */
+    public static void configure(final ClusterCacheOptions options) {
+        shared = new GetClusterCache(options);
+    }
+
+    public boolean isEnabled() {
+        return options != null;
+    }
+
+    /**
+     * @param caller identity of the caller whose credentials the client calls with
+     * @param metrics metrics of the invocation the lookups are counted in
+     * @param callGraph call graph lookups through the returned client are attributed to
+     *
+     * @return client answering GetCluster from the caller's responses in this cache and evicting clusters it changes;
+     * the client itself if caching is off
+     */
+    public <ClientT> ProxyClient<ClientT> caching(final ProxyClient<ClientT> proxyClient,
+                                                  final String caller,
+                                                  final ServiceCallMetrics metrics,
+                                                  final String callGraph) {
+        return isEnabled() ? new CachingProxyClient<>(proxyClient, this, caller, metrics, callGraph) : proxyClient;
+    }
+
+    /**
+     * @return the response cached for the caller, or null if there is none or it has expired
+     */
+    synchronized GetClusterResponse get(final String caller, final String clusterArn) {
+        final Map<String, Entry> byCaller = entries.get(clusterArn);
+        final Entry entry = byCaller == null ? null : byCaller.get(caller);
+        if (entry == null) {
+            return null;
+        }
+        if (nanoClock.getAsLong() - entry.expiresAt >= 0) {
+            byCaller.remove(caller);
+            if (byCaller.isEmpty()) {
+                entries.remove(clusterArn);
+            }
+            return null;
+        }
+        return entry.response;
+    }
+
+    synchronized void put(final String caller, final String clusterArn, final GetClusterResponse response) {
+        if (!isEnabled() || response.cluster() == null || response.cluster().status() != Status.ACTIVE) {
+            return;
+        }
+        entries.computeIfAbsent(clusterArn, arn -> new HashMap<>())
+                .put(caller, new Entry(response, nanoClock.getAsLong() + options.getTtl().toNanos()));
+    }
+
+    synchronized void invalidate(final String clusterArn) {
+        entries.remove(clusterArn);
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,45 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.time.Duration;
+import java.util.function.UnaryOperator;
+
+/**
+ * Controls how ListHandler hydrates the clusters of a page into full resource models. Hydration of list pages is
+ * turned on by setting the {@value #ENVIRONMENT_VARIABLE} environment variable of the handler function to true.
+ */
+@lombok.Builder
+@lombok.Getter
+@lombok.ToString
+public class HydrationOptions {
+    static final String ENVIRONMENT_VARIABLE = "LIST_HYDRATION";
+
+    /**
+     * Maximum number of clusters being read at the same time
+     */
+    @lombok.Builder.Default
+    private final int parallelism = 10;
+
+    /**
+     * Time allowed for the calls of a single cluster, from when they start. A cluster waits for a free slot no longer
+     * than the clusters ahead of it take to be read or to time out.
+     */
+    @lombok.Builder.Default
+    private final Duration callTimeout = Duration.ofSeconds(10L);
+
+    /**
+     * Whether ListTagsForResource is called for each cluster
+     */
+    @lombok.Builder.Default
+    private final boolean includeTags = true;
+
+    /**
+     * @return default options if hydration is turned on for the handler function, otherwise null
+     */
+    public static HydrationOptions fromEnvironment() {
+        return fromEnvironment(System::getenv);
+    }
+
+    static HydrationOptions fromEnvironment(final UnaryOperator<String> environment) {
+        return Boolean.parseBoolean(environment.apply(ENVIRONMENT_VARIABLE)) ? HydrationOptions.builder().build() : null;
+    }
+}
@@ -0,0 +1,118 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * Proxy client that records the latency and outcome of every call into {@link ServiceCallMetrics}, attributed to its
+ * call graph and to the API named after the request class.
+ */
+public class InstrumentedProxyClient<ClientT> implements CallGraphScoped<ClientT>, RetryAware<ClientT> {
+    private final ProxyClient<ClientT> delegate;
+    private final ServiceCallMetrics metrics;
+    private final String callGraph;
+    private final boolean retry;
+
+    InstrumentedProxyClient(final ProxyClient<ClientT> delegate, final ServiceCallMetrics metrics, final String callGraph) {
+        this(delegate, metrics, callGraph, false);
+    }
+
+    private InstrumentedProxyClient(final ProxyClient<ClientT> delegate,
+                                    final ServiceCallMetrics metrics,
+                                    final String callGraph,
+                                    final boolean retry) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+        this.callGraph = callGraph;
+        this.retry = retry;
+    }
+
+    /**
+     * @return a client sharing the same metrics that attributes its calls to the given call graph
+     */
+    @Override
+    public InstrumentedProxyClient<ClientT> forCallGraph(final String callGraph) {
+        return new InstrumentedProxyClient<>(delegate, metrics, callGraph, retry);
+    }
+
+    /**
+     * @return a client sharing the same metrics and call graph that counts its calls as retries
+     */
+    @Override
+    public InstrumentedProxyClient<ClientT> forRetry() {
+        return new InstrumentedProxyClient<>(delegate, metrics, callGraph, true);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT
+    injectCredentialsAndInvokeV2(final RequestT request, final Function<RequestT, ResponseT> requestFunction) {
+        return timed(request, () -> delegate.injectCredentialsAndInvokeV2(request, requestFunction));
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT>
+    injectCredentialsAndInvokeV2Async(final RequestT request,
+                                      final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+        final long start = System.nanoTime();
+        final CompletableFuture<ResponseT> future;
+        try {
+            future = delegate.injectCredentialsAndInvokeV2Async(request, requestFunction);
+        } catch (RuntimeException e) {
+            metrics.record(callGraph, apiName(request), System.nanoTime() - start, e, retry);
+            throw e;
+        }
+        return future.whenComplete((response, error) -> metrics.record(callGraph, apiName(request),
+                System.nanoTime() - start, error instanceof CompletionException ? error.getCause() : error, retry));
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>> IterableT
+    injectCredentialsAndInvokeIterableV2(final RequestT request, final Function<RequestT, IterableT> requestFunction) {
+        return timed(request, () -> delegate.injectCredentialsAndInvokeIterableV2(request, requestFunction));
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT>
+    injectCredentialsAndInvokeV2InputStream(final RequestT request,
+                                            final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction) {
+        return timed(request, () -> delegate.injectCredentialsAndInvokeV2InputStream(request, requestFunction));
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT>
+    injectCredentialsAndInvokeV2Bytes(final RequestT request,
+                                      final Function<RequestT, ResponseBytes<ResponseT>> requestFunction) {
+        return timed(request, () -> delegate.injectCredentialsAndInvokeV2Bytes(request, requestFunction));
+    }
+
+    @Override
+    public ClientT client() {
+        return delegate.client();
+    }
+
+    private <T> T timed(final AwsRequest request, final Supplier<T> call) {
+        final long start = System.nanoTime();
+        try {
+            final T response = call.get();
+            metrics.record(callGraph, apiName(request), System.nanoTime() - start, null, retry);
+            return response;
+        } catch (RuntimeException e) {
+            metrics.record(callGraph, apiName(request), System.nanoTime() - start, e, retry);
+            throw e;
+        }
+    }
+
+    static String apiName(final AwsRequest request) {
+        final String name = request.getClass().getSimpleName();
+        return name.endsWith("Request") ? name.substring(0, name.length() - "Request".length()) : name;
+    }
+}
@@ -0,0 +1,24 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.time.Duration;
+
+/**
+ * Controls the in-JVM cluster inventory of {@link ClusterInventory}
+ */
+@lombok.Builder
+@lombok.Getter
+@lombok.ToString
+public class InventoryOptions {
+    /**
+     * How long clusters listed for an account and region answer lookups before they are listed again; zero lists
+     * them on every lookup
+     */
+    @lombok.Builder.Default
+    private final Duration ttl = Duration.ofSeconds(60L);
+
+    /**
+     * Clusters asked for per ListClusters page; 100 is the most the service returns
+     */
+    @lombok.Builder.Default
+    private final int pageSize = 100;
+}
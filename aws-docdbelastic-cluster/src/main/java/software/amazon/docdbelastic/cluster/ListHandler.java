@@ -1,6 +1,7 @@
 package software.amazon.docdbelastic.cluster;
 
 import java.util.List;
+import software.amazon.awssdk.services.docdbelastic.DocDbElasticAsyncClient;
 import software.amazon.awssdk.services.docdbelastic.DocDbElasticClient;
 import software.amazon.awssdk.services.docdbelastic.model.ListClustersRequest;
 import software.amazon.awssdk.services.docdbelastic.model.ListClustersResponse;
@@ -12,6 +13,18 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class ListHandler extends BaseHandlerStd {
+    private final HydrationOptions hydrationOptions;
+
+    public ListHandler() {
+        this(HydrationOptions.fromEnvironment());
+    }
+
+    /**
+     * @param hydrationOptions when set, each page is returned as fully populated models instead of identifiers only
+     */
+    public ListHandler(HydrationOptions hydrationOptions) {
+        this.hydrationOptions = hydrationOptions;
+    }
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -23,7 +36,7 @@ public class ListHandler extends BaseHandlerStd {
 
         final ListClustersRequest awsRequest = RequestTranslator.translateToListRequest(request.getNextToken());
 
-        ListClustersResponse awsResponse = proxy.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::listClusters);
+        ListClustersResponse awsResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::listClusters);
 
         String nextToken = awsResponse.nextToken();
 
@@ -35,4 +48,29 @@ public class ListHandler extends BaseHandlerStd {
                 .status(OperationStatus.SUCCESS)
                 .build();
     }
+
+    @Override
+    protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final ProxyClient<DocDbElasticClient> proxyClient,
+            final ProxyClient<DocDbElasticAsyncClient> asyncProxyClient,
+            final Logger logger) {
+
+        final ProgressEvent<ResourceModel, CallbackContext> page =
+                handleRequest(proxy, request, callbackContext, proxyClient, logger);
+        if (hydrationOptions == null) {
+            return page;
+        }
+
+        page.setResourceModels(new ClusterHydrator(asyncProxyClient, hydrationOptions, logger)
+                .hydrate(page.getResourceModels()));
+        return page;
+    }
+
+    @Override
+    protected boolean isResumable() {
+        return false;
+    }
 }
@@ -0,0 +1,63 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * In-process polling for stabilizations that usually finish within seconds, such as tag-only updates or deletes. The
+ * cluster is checked again after a short interval that doubles up to a ceiling, for as long as the invocation deadline
+ * leaves room for the next interval and the wait stays short. After that the stabilizer reports the cluster as not yet
+ * stable, and the handler falls back to its backoff delay and a CloudFormation callback.
+ */
+@lombok.Builder
+@lombok.Getter
+@lombok.ToString
+public class LocalPolling {
+    /**
+     * Interval before the first in-process check
+     */
+    @lombok.Builder.Default
+    private final Duration initialInterval = Duration.ofMillis(500L);
+
+    /**
+     * Largest interval between in-process checks
+     */
+    @lombok.Builder.Default
+    private final Duration maxInterval = Duration.ofSeconds(4L);
+
+    /**
+     * Longest time spent polling in-process per stabilization check; longer waits go through the callback
+     */
+    @lombok.Builder.Default
+    private final Duration maxWait = Duration.ofSeconds(15L);
+
+    /**
+     * @param check reads the cluster and tells whether it is stable
+     * @param deadlineNanos {@link System#nanoTime()} by which the invocation must stop waiting, or null to check once
+     *
+     * @return whether the cluster became stable within the wait
+     */
+    boolean poll(final BooleanSupplier check, final Long deadlineNanos) {
+        boolean stabilized = check.getAsBoolean();
+        if (deadlineNanos == null) {
+            return stabilized;
+        }
+
+        final long start = System.nanoTime();
+        Duration interval = initialInterval;
+        while (!stabilized
+                && deadlineNanos - System.nanoTime() > interval.toNanos()
+                && maxWait.toNanos() - (System.nanoTime() - start) > interval.toNanos()) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(interval.toNanos());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            stabilized = check.getAsBoolean();
+            interval = interval.multipliedBy(2L).compareTo(maxInterval) > 0 ? maxInterval : interval.multipliedBy(2L);
+        }
+        return stabilized;
+    }
+}
@@ -0,0 +1,175 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Differences between the previous and the desired state of a cluster, computed once per update and used for the
+ * UpdateCluster request, the tag changes and the no-op check. List properties are compared as multisets: order does
+ * not matter, duplicates do.
+ */
+@lombok.Getter
+public class ModelChangeSet {
+
+    /**
+     * Cluster properties that UpdateCluster can change
+     */
+    public enum Property {
+        AUTH_TYPE("AuthType"),
+        ADMIN_USER_PASSWORD("AdminUserPassword"),
+        SHARD_CAPACITY("ShardCapacity"),
+        SHARD_COUNT("ShardCount"),
+        VPC_SECURITY_GROUP_IDS("VpcSecurityGroupIds"),
+        SUBNET_IDS("SubnetIds");
+
+        private final String propertyName;
+
+        Property(final String propertyName) {
+            this.propertyName = propertyName;
+        }
+
+        @Override
+        public String toString() {
+            return propertyName;
+        }
+    }
+
+    private final String clusterArn;
+    private final ResourceModel desiredModel;
+    private final Set<Property> changedProperties;
+    private final Map<String, String> tagsToAdd;
+    private final Set<String> tagsToRemove;
+
+    private ModelChangeSet(final String clusterArn,
+                           final ResourceModel desiredModel,
+                           final Set<Property> changedProperties,
+                           final Map<String, String> tagsToAdd,
+                           final Set<String> tagsToRemove) {
+        this.clusterArn = clusterArn;
+        this.desiredModel = desiredModel;
+        this.changedProperties = Collections.unmodifiableSet(changedProperties);
+        this.tagsToAdd = Collections.unmodifiableMap(tagsToAdd);
+        this.tagsToRemove = Collections.unmodifiableSet(tagsToRemove);
+    }
+
+    static ModelChangeSet between(final ResourceModel previousModel, final ResourceModel desiredModel) {
+        return between(previousModel, desiredModel, Collections.emptyMap(), Collections.emptyMap());
+    }
+
+    static ModelChangeSet between(final ResourceModel previousModel,
+                                  final ResourceModel desiredModel,
+                                  final Map<String, String> previousTags,
+                                  final Map<String, String> desiredTags) {
+        final Set<Property> changed = EnumSet.noneOf(Property.class);
+        if (!Objects.equals(previousModel.getAuthType(), desiredModel.getAuthType())) {
+            changed.add(Property.AUTH_TYPE);
+        }
+        if (!Objects.equals(previousModel.getAdminUserPassword(), desiredModel.getAdminUserPassword())) {
+            changed.add(Property.ADMIN_USER_PASSWORD);
+        }
+        if (!Objects.equals(previousModel.getShardCapacity(), desiredModel.getShardCapacity())) {
+            changed.add(Property.SHARD_CAPACITY);
+        }
+        if (!Objects.equals(previousModel.getShardCount(), desiredModel.getShardCount())) {
+            changed.add(Property.SHARD_COUNT);
+        }
+        if (!sameElements(previousModel.getVpcSecurityGroupIds(), desiredModel.getVpcSecurityGroupIds())) {
+            changed.add(Property.VPC_SECURITY_GROUP_IDS);
+        }
+        if (!sameElements(previousModel.getSubnetIds(), desiredModel.getSubnetIds())) {
+            changed.add(Property.SUBNET_IDS);
+        }
+
+        final Map<String, String> tagsToAdd = new HashMap<>();
+        for (final Map.Entry<String, String> tag : desiredTags.entrySet()) {
+            final String previousValue = previousTags.get(tag.getKey());
+            if (!Objects.equals(previousValue, tag.getValue())
+                    || previousValue == null && !previousTags.containsKey(tag.getKey())) {
+                tagsToAdd.put(tag.getKey(), tag.getValue());
+            }
+        }
+        final Set<String> tagsToRemove = new HashSet<>();
+        for (final String key : previousTags.keySet()) {
+            if (!desiredTags.containsKey(key)) {
+                tagsToRemove.add(key);
+            }
+        }
+
+        return new ModelChangeSet(previousModel.getClusterArn(), desiredModel, changed, tagsToAdd, tagsToRemove);
+    }
+
+    public boolean isClusterUpdateRequired() {
+        return !changedProperties.isEmpty();
+    }
+
+    public boolean hasTagChanges() {
+        return !tagsToAdd.isEmpty() || !tagsToRemove.isEmpty();
+    }
+
+    public boolean isNoOp() {
+        return !isClusterUpdateRequired() && !hasTagChanges();
+    }
+
+    public boolean isChanged(final Property property) {
+        return changedProperties.contains(property);
+    }
+
+    /**
+     * Dry run of the update: the service calls it would make, in order, each with the properties or tag keys it
+     * changes. Tag values and passwords are never included.
+     *
+     * @return planned calls, empty for a no-op update
+     */
+    public List<String> plannedCalls() {
+        final List<String> calls = new ArrayList<>(3);
+        if (isClusterUpdateRequired()) {
+            calls.add("UpdateCluster " + changedProperties);
+        }
+        if (!tagsToAdd.isEmpty()) {
+            calls.add("TagResource " + tagsToAdd.keySet());
+        }
+        if (!tagsToRemove.isEmpty()) {
+            calls.add("UntagResource " + tagsToRemove);
+        }
+        return calls;
+    }
+
+    /**
+     * Compares two lists as multisets in linear time, without allocating when they are equal in order
+     */
+    static boolean sameElements(final List<String> a, final List<String> b) {
+        if (a == b) {
+            return true;
+        }
+        if (a == null || b == null || a.size() != b.size()) {
+            return false;
+        }
+        if (a.equals(b)) {
+            return true;
+        }
+
+        final Map<String, Integer> counts = new HashMap<>(a.size() * 2);
+        for (final String element : a) {
+            counts.merge(element, 1, Integer::sum);
+        }
+        for (final String element : b) {
+            final Integer count = counts.get(element);
+            if (count == null) {
+                return false;
+            }
+            if (count == 1) {
+                counts.remove(element);
+            } else {
+                counts.put(element, count - 1);
+            }
+        }
+        return counts.isEmpty();
+    }
+}
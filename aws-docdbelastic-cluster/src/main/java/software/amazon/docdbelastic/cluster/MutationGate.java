@@ -0,0 +1,114 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.docdbelastic.DocDbElasticClient;
+import software.amazon.awssdk.services.docdbelastic.model.Cluster;
+import software.amazon.awssdk.services.docdbelastic.model.Status;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
+import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * Holds UpdateCluster and DeleteCluster back while the cluster is busy with another change, which the service would
+ * reject with a conflict. The cluster is polled in-process first; if it stays busy, the handler returns IN_PROGRESS
+ * with the operation's backoff delay and checks again when called back. A conflict that still arrives with the
+ * mutation goes through the same wait instead of failing the operation.
+ */
+public class MutationGate {
+    /**
+     * Statuses in which the cluster rejects mutations for a while
+     */
+    static final Set<Status> BUSY = EnumSet.of(Status.CREATING, Status.UPDATING);
+
+    private final ProxyClient<DocDbElasticClient> proxyClient;
+    private final StabilizationDelay backoff;
+    private final LocalPolling localPolling;
+    private final StructuredLogger logger;
+
+    /**
+     * @param backoff delay between checks across invocations, bound to the callback context of this invocation
+     */
+    public MutationGate(final ProxyClient<DocDbElasticClient> proxyClient,
+                        final StabilizationDelay backoff,
+                        final LocalPolling localPolling,
+                        final Logger logger) {
+        this.proxyClient = proxyClient;
+        this.backoff = backoff;
+        this.localPolling = localPolling;
+        this.logger = StructuredLogger.of(logger);
+    }
+
+    /**
+     * Reads the cluster and continues once it is not busy
+     *
+     * @param onMutable next step, given the cluster as read
+     *
+     * @return the next step's event, or IN_PROGRESS to check again after a callback
+     */
+    public ProgressEvent<ResourceModel, CallbackContext> awaitMutable(
+            final ProgressEvent<ResourceModel, CallbackContext> progress,
+            final Function<Cluster, ProgressEvent<ResourceModel, CallbackContext>> onMutable) {
+
+        final CallbackContext context = progress.getCallbackContext();
+        final AtomicReference<Cluster> cluster = new AtomicReference<>();
+        final boolean mutable = localPolling.poll(() -> {
+            cluster.set(read(progress.getResourceModel()));
+            return !BUSY.contains(cluster.get().status());
+        }, context.getInvocationDeadline());
+
+        if (!mutable) {
+            logger.sampled("gate", cluster.get().status(), "%s [%s] is %s, waiting before changing it.",
+                    ResourceModel.TYPE_NAME, cluster.get().clusterArn(), cluster.get().statusAsString());
+            return waitForMutable(progress);
+        }
+        context.setMutationGateWaits(0);
+        return onMutable.apply(cluster.get());
+    }
+
+    /**
+     * Runs the mutation, waiting and trying again later if the service reports a conflict with a change in progress
+     *
+     * @param mutation service call chain that throws {@link CfnResourceConflictException} on a conflict
+     */
+    public ProgressEvent<ResourceModel, CallbackContext> retryConflicts(
+            final ProgressEvent<ResourceModel, CallbackContext> progress,
+            final Supplier<ProgressEvent<ResourceModel, CallbackContext>> mutation) {
+
+        try {
+            return mutation.get();
+        } catch (CfnResourceConflictException e) {
+            logger.warn("%s mutation conflicted with a change in progress, waiting: %s", ResourceModel.TYPE_NAME, e.getMessage());
+            return waitForMutable(progress);
+        }
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> waitForMutable(final ProgressEvent<ResourceModel, CallbackContext> progress) {
+        final CallbackContext context = progress.getCallbackContext();
+        context.setMutationGateWaits(context.getMutationGateWaits() + 1);
+        final Duration delay = backoff.nextDelay(context.getMutationGateWaits());
+        if (delay.isZero()) {
+            throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME,
+                    progress.getResourceModel().getClusterArn() + " stayed busy with another change");
+        }
+        return ProgressEvent.defaultInProgressHandler(context, (int) Math.max(1L, delay.getSeconds()),
+                                                      progress.getResourceModel());
+    }
+
+    private Cluster read(final ResourceModel model) {
+        try {
+            return proxyClient.injectCredentialsAndInvokeV2(RequestTranslator.translateToReadRequest(model),
+                                                            proxyClient.client()::getCluster).cluster();
+        } catch (AwsServiceException e) {
+            throw ExceptionTranslator.translateFromServiceException(e);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * Proxy client that takes a token from {@link ApiRateLimiter} before every call and reports whether the call was
+ * throttled, so the limiter can adapt the rate of that API in the client's account and region.
+ */
+public class RateLimitedProxyClient<ClientT> implements ProxyClient<ClientT> {
+    private final ProxyClient<ClientT> delegate;
+    private final ApiRateLimiter limiter;
+    private final String scope;
+
+    RateLimitedProxyClient(final ProxyClient<ClientT> delegate, final ApiRateLimiter limiter, final String scope) {
+        this.delegate = delegate;
+        this.limiter = limiter;
+        this.scope = scope;
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT
+    injectCredentialsAndInvokeV2(final RequestT request, final Function<RequestT, ResponseT> requestFunction) {
+        return limited(request, () -> delegate.injectCredentialsAndInvokeV2(request, requestFunction));
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT>
+    injectCredentialsAndInvokeV2Async(final RequestT request,
+                                      final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+        final String api = InstrumentedProxyClient.apiName(request);
+        limiter.acquire(scope, api);
+        final CompletableFuture<ResponseT> future;
+        try {
+            future = delegate.injectCredentialsAndInvokeV2Async(request, requestFunction);
+        } catch (RuntimeException e) {
+            report(api, e);
+            throw e;
+        }
+        return future.whenComplete((response, error) ->
+                report(api, error instanceof CompletionException ? error.getCause() : error));
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>> IterableT
+    injectCredentialsAndInvokeIterableV2(final RequestT request, final Function<RequestT, IterableT> requestFunction) {
+        return limited(request, () -> delegate.injectCredentialsAndInvokeIterableV2(request, requestFunction));
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT>
+    injectCredentialsAndInvokeV2InputStream(final RequestT request,
+                                            final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction) {
+        return limited(request, () -> delegate.injectCredentialsAndInvokeV2InputStream(request, requestFunction));
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT>
+    injectCredentialsAndInvokeV2Bytes(final RequestT request,
+                                      final Function<RequestT, ResponseBytes<ResponseT>> requestFunction) {
+        return limited(request, () -> delegate.injectCredentialsAndInvokeV2Bytes(request, requestFunction));
+    }
+
+    @Override
+    public ClientT client() {
+        return delegate.client();
+    }
+
+    private <T> T limited(final AwsRequest request, final Supplier<T> call) {
+        final String api = InstrumentedProxyClient.apiName(request);
+        limiter.acquire(scope, api);
+        try {
+            final T response = call.get();
+            report(api, null);
+            return response;
+        } catch (RuntimeException e) {
+            report(api, e);
+            throw e;
+        }
+    }
+
+    private void report(final String api, final Throwable error) {
+        if (error == null) {
+            limiter.onSuccess(scope, api);
+        } else if (ExceptionTranslator.isThrottling(error)) {
+            limiter.onThrottled(scope, api);
+        }
+    }
+}
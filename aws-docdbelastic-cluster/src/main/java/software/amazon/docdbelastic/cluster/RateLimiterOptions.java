@@ -0,0 +1,59 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Controls the per-API token buckets of {@link ApiRateLimiter}. Rates are in calls per second.
+ */
+@lombok.Builder
+@lombok.Getter
+@lombok.ToString
+public class RateLimiterOptions {
+    /**
+     * Rate of every API without an entry in {@link #apiRates}
+     */
+    @lombok.Builder.Default
+    private final double defaultRate = 10.0;
+
+    /**
+     * Rates by API name, e.g. GetCluster
+     */
+    @lombok.Singular
+    private final Map<String, Double> apiRates;
+
+    /**
+     * Calls that can be made at once after the bucket has been idle
+     */
+    @lombok.Builder.Default
+    private final int burst = 10;
+
+    /**
+     * Lowest rate throttling can push an API down to
+     */
+    @lombok.Builder.Default
+    private final double minRate = 0.5;
+
+    /**
+     * Factor the rate is multiplied by on each throttled call
+     */
+    @lombok.Builder.Default
+    private final double decreaseFactor = 0.5;
+
+    /**
+     * Successful calls needed to climb back from the minimum to the configured rate
+     */
+    @lombok.Builder.Default
+    private final int recoverySteps = 20;
+
+    /**
+     * Longest a call waits for a token; a call that would wait longer is sent without one
+     */
+    @lombok.Builder.Default
+    private final Duration maxWait = Duration.ofSeconds(5L);
+
+    double rateFor(final String api) {
+        final Double rate = apiRates.get(api);
+        return rate == null ? defaultRate : rate;
+    }
+}
@@ -0,0 +1,130 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.services.docdbelastic.model.GetClusterRequest;
+import software.amazon.awssdk.services.docdbelastic.model.ListTagsForResourceRequest;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * Single-flight for the read calls of the handlers: while a GetCluster or ListTagsForResource call for an ARN is in
+ * flight anywhere in the JVM, an identical request of the same {@link CallerIdentity caller} waits for it and shares
+ * its response or exception instead of making its own call. Nothing is kept once the call is answered; see {@link GetClusterCache} for that.
+ */
+public class ReadCoalescer {
+    private static final ReadCoalescer SHARED = new ReadCoalescer();
+
+    private final Map<String, CompletableFuture<AwsResponse>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * @return the coalescer used by all handlers in this JVM
+     */
+    public static ReadCoalescer shared() {
+        return SHARED;
+    }
+
+    /**
+     * @param caller identity of the caller whose credentials the client calls with
+     * @param metrics metrics of the invocation coalesced requests are counted in
+     * @param callGraph call graph requests through the returned client are attributed to
+     *
+     * @return client sharing in-flight read calls with every other client of this coalescer for the same caller
+     */
+    public <ClientT> ProxyClient<ClientT> coalescing(final ProxyClient<ClientT> proxyClient,
+                                                     final String caller,
+                                                     final ServiceCallMetrics metrics,
+                                                     final String callGraph) {
+        return new CoalescingProxyClient<>(proxyClient, this, caller, metrics, callGraph);
+    }
+
+    /**
+     * @return key shared by identical read requests of the caller, or null if the request is not coalesced
+     */
+    static String keyOf(final String caller, final AwsRequest request) {
+        if (request instanceof GetClusterRequest) {
+            return "GetCluster|" + caller + "|" + ((GetClusterRequest) request).clusterArn();
+        } else if (request instanceof ListTagsForResourceRequest) {
+            return "ListTagsForResource|" + caller + "|" + ((ListTagsForResourceRequest) request).resourceArn();
+        }
+        return null;
+    }
+
+    /**
+     * Makes the call unless an identical one is in flight, in which case its outcome is awaited and shared
+     *
+     * @param joined told whether the request joined a call in flight
+     */
+    @SuppressWarnings("unchecked")
+    <ResponseT extends AwsResponse> ResponseT call(final String key, final Supplier<ResponseT> call, final Joined joined) {
+        final CompletableFuture<AwsResponse> own = new CompletableFuture<>();
+        final CompletableFuture<AwsResponse> leader = inFlight.putIfAbsent(key, own);
+        joined.record(leader != null);
+        if (leader != null) {
+            try {
+                return (ResponseT) leader.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+
+        try {
+            final ResponseT response = call.get();
+            own.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    /**
+     * Async counterpart of {@link #call}; a request joining a call in flight gets its own view of the shared future
+     */
+    @SuppressWarnings("unchecked")
+    <ResponseT extends AwsResponse> CompletableFuture<ResponseT> callAsync(final String key,
+                                                                       final Supplier<CompletableFuture<ResponseT>> call,
+                                                                       final Joined joined) {
+        final CompletableFuture<AwsResponse> own = new CompletableFuture<>();
+        final CompletableFuture<AwsResponse> leader = inFlight.putIfAbsent(key, own);
+        joined.record(leader != null);
+        if (leader != null) {
+            return leader.thenApply(response -> (ResponseT) response);
+        }
+
+        final CompletableFuture<ResponseT> response;
+        try {
+            response = call.get();
+        } catch (RuntimeException e) {
+            inFlight.remove(key, own);
+            own.completeExceptionally(e);
+            throw e;
+        }
+        return response.whenComplete((result, error) -> {
+            inFlight.remove(key, own);
+            if (error != null) {
+                own.completeExceptionally(error instanceof CompletionException ? error.getCause() : error);
+            } else {
+                own.complete(result);
+            }
+        });
+    }
+
+    int inFlightCount() {
+        return inFlight.size();
+    }
+
+    interface Joined {
+        void record(boolean joined);
+    }
+}
@@ -1,8 +1,10 @@
 package software.amazon.docdbelastic.cluster;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.docdbelastic.DocDbElasticAsyncClient;
 import software.amazon.awssdk.services.docdbelastic.DocDbElasticClient;
 import software.amazon.awssdk.services.docdbelastic.model.GetClusterResponse;
 import software.amazon.awssdk.services.docdbelastic.model.ListTagsForResourceResponse;
@@ -15,7 +17,7 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class ReadHandler extends BaseHandlerStd {
-    private Logger logger;
+    private StructuredLogger logger;
 
     @Override
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -25,7 +27,7 @@ public class ReadHandler extends BaseHandlerStd {
             ProxyClient<DocDbElasticClient> proxyClient,
             Logger logger) {
 
-        this.logger = logger;
+        this.logger = StructuredLogger.of(logger);
 
         return proxy.initiate(CALL_GRAPH_PREFIX + "Read", proxyClient, request.getDesiredResourceState(), callbackContext)
                 .translateToServiceRequest(RequestTranslator::translateToReadRequest)
@@ -37,7 +39,7 @@ public class ReadHandler extends BaseHandlerStd {
                         throw ExceptionTranslator.translateFromServiceException(e);
                     }
 
-                    logger.log(String.format("%s has successfully been read.", ResourceModel.TYPE_NAME));
+                    this.logger.debug("%s has successfully been read.", ResourceModel.TYPE_NAME);
                     return awsResponse;
                 })
                 .done(awsResponse -> {
@@ -48,8 +50,46 @@ public class ReadHandler extends BaseHandlerStd {
                     Set<Tag> tags = TagHelper.convertToCfnTags(listTagsForResourceResponse.tags());
                     ResourceModel resourceModel = ResponseTranslator.translateFromReadResponse(awsResponse, tags);
 
-                    logger.log(resourceModel.toString());
+                    this.logger.debug("%s read: %s", ResourceModel.TYPE_NAME, StructuredLogger.redact(resourceModel));
                     return ProgressEvent.defaultSuccessHandler(resourceModel);
                 });
     }
+
+    /**
+     * Async read mode: GetCluster and ListTagsForResource only need the cluster ARN, so both are sent at once and the
+     * read takes as long as the slower of the two calls rather than their sum.
+     */
+    @Override
+    protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+            AmazonWebServicesClientProxy proxy,
+            ResourceHandlerRequest<ResourceModel> request,
+            CallbackContext callbackContext,
+            ProxyClient<DocDbElasticClient> proxyClient,
+            ProxyClient<DocDbElasticAsyncClient> asyncProxyClient,
+            Logger logger) {
+
+        this.logger = StructuredLogger.of(logger);
+
+        final ResourceModel model = request.getDesiredResourceState();
+        final CompletableFuture<GetClusterResponse> getClusterFuture =
+                asyncProxyClient.injectCredentialsAndInvokeV2Async(RequestTranslator.translateToReadRequest(model),
+                                                                   asyncProxyClient.client()::getCluster);
+        final CompletableFuture<ListTagsForResourceResponse> listTagsFuture =
+                asyncProxyClient.injectCredentialsAndInvokeV2Async(RequestTranslator.translateToListTagsRequest(model.getClusterArn()),
+                                                                   asyncProxyClient.client()::listTagsForResource);
+
+        final GetClusterResponse awsResponse = ExceptionTranslator.join(getClusterFuture);
+        this.logger.debug("%s has successfully been read.", ResourceModel.TYPE_NAME);
+
+        final Set<Tag> tags = TagHelper.convertToCfnTags(ExceptionTranslator.join(listTagsFuture).tags());
+        final ResourceModel resourceModel = ResponseTranslator.translateFromReadResponse(awsResponse, tags);
+
+        this.logger.debug("%s read: %s", ResourceModel.TYPE_NAME, StructuredLogger.redact(resourceModel));
+        return ProgressEvent.defaultSuccessHandler(resourceModel);
+    }
+
+    @Override
+    protected boolean isResumable() {
+        return false;
+    }
 }
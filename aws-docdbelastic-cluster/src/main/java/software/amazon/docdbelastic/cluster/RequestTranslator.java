@@ -1,5 +1,7 @@
 package software.amazon.docdbelastic.cluster;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -12,10 +14,12 @@ import software.amazon.awssdk.services.docdbelastic.model.TagResourceRequest;
 import software.amazon.awssdk.services.docdbelastic.model.UntagResourceRequest;
 import software.amazon.awssdk.services.docdbelastic.model.ListTagsForResourceRequest;
 
-import software.amazon.awssdk.utils.StringUtils;
-
 public class RequestTranslator {
-    static CreateClusterRequest translateToCreateRequest(ResourceModel model, Map<String, String> tags) {
+    /**
+     * @param clientToken the client request token of the create, so that a retried create returns the cluster of
+     *                    its earlier attempt instead of conflicting with it
+     */
+    static CreateClusterRequest translateToCreateRequest(ResourceModel model, Map<String, String> tags, String clientToken) {
         return CreateClusterRequest.builder()
                 .clusterName(model.getClusterName())
                 .authType(model.getAuthType())
@@ -28,12 +32,17 @@ public class RequestTranslator {
                 .preferredMaintenanceWindow(model.getPreferredMaintenanceWindow())
                 .kmsKeyId(model.getKmsKeyId())
                 .tags(tags)
+                .clientToken(clientToken)
                 .build();
     }
 
     static GetClusterRequest translateToReadRequest(ResourceModel model) {
+        return translateToReadRequest(model.getClusterArn());
+    }
+
+    static GetClusterRequest translateToReadRequest(String clusterArn) {
         return GetClusterRequest.builder()
-                .clusterArn(model.getClusterArn())
+                .clusterArn(clusterArn)
                 .build();
     }
 
@@ -44,46 +53,73 @@ public class RequestTranslator {
     }
 
     static ListClustersRequest translateToListRequest(String nextToken) {
+        return translateToListRequest(nextToken, 50);
+    }
+
+    static ListClustersRequest translateToListRequest(String nextToken, int maxResults) {
         return ListClustersRequest.builder()
-                .maxResults(50)
+                .maxResults(maxResults)
                 .nextToken(nextToken)
                 .build();
     }
 
     static UpdateClusterRequest translateToUpdateClusterRequest(ResourceModel oldModel, ResourceModel newModel) {
+        return translateToUpdateClusterRequest(ModelChangeSet.between(oldModel, newModel));
+    }
+
+    static UpdateClusterRequest translateToUpdateClusterRequest(ModelChangeSet changeSet) {
         // If all fields are the same, return null, meaning no need to call UpdateCluster
-        if (StringUtils.equals(oldModel.getAuthType(), newModel.getAuthType()) &&
-            oldModel.getShardCapacity() == newModel.getShardCapacity() &&
-            oldModel.getShardCount() == newModel.getShardCount() &&
-            areListsTheSameIgnoreOrder(oldModel.getVpcSecurityGroupIds(), newModel.getVpcSecurityGroupIds()) &&
-            areListsTheSameIgnoreOrder(oldModel.getSubnetIds(), newModel.getSubnetIds()) &&
-            StringUtils.equals(oldModel.getAdminUserPassword(), newModel.getAdminUserPassword())
-        ) {
+        if (!changeSet.isClusterUpdateRequired()) {
             return null;
         }
+        final ResourceModel newModel = changeSet.getDesiredModel();
         return UpdateClusterRequest.builder()
-                .clusterArn(oldModel.getClusterArn())
+                .clusterArn(changeSet.getClusterArn())
                 .authType(newModel.getAdminUserPassword() == null ? null : newModel.getAuthType())
                 .adminUserPassword(newModel.getAdminUserPassword())
-                .shardCapacity(oldModel.getShardCapacity() == newModel.getShardCapacity() ? null : newModel.getShardCapacity())
-                .shardCount(oldModel.getShardCount() == newModel.getShardCount() ? null : newModel.getShardCount())
-                .vpcSecurityGroupIds(areListsTheSameIgnoreOrder(oldModel.getVpcSecurityGroupIds(), newModel.getVpcSecurityGroupIds()) ? null : newModel.getVpcSecurityGroupIds())
-                .subnetIds(areListsTheSameIgnoreOrder(oldModel.getSubnetIds(), newModel.getSubnetIds()) ? null : newModel.getSubnetIds())
+                .shardCapacity(changeSet.isChanged(ModelChangeSet.Property.SHARD_CAPACITY) ? newModel.getShardCapacity() : null)
+                .shardCount(changeSet.isChanged(ModelChangeSet.Property.SHARD_COUNT) ? newModel.getShardCount() : null)
+                .vpcSecurityGroupIds(changeSet.isChanged(ModelChangeSet.Property.VPC_SECURITY_GROUP_IDS) ? newModel.getVpcSecurityGroupIds() : null)
+                .subnetIds(changeSet.isChanged(ModelChangeSet.Property.SUBNET_IDS) ? newModel.getSubnetIds() : null)
                 .build();
     }
 
-    static TagResourceRequest translateToTagRequest(ResourceModel model, Map<String, String> addedTags) {
-        return TagResourceRequest.builder()
-                .resourceArn(model.getClusterArn())
-                .tags(addedTags)
-                .build();
+    /**
+     * @return TagResource requests for the given tags, at most {@link TagHelper#MAX_TAGS_PER_REQUEST} tags each
+     */
+    static List<TagResourceRequest> translateToTagRequests(String resourceArn, Map<String, String> addedTags) {
+        final List<TagResourceRequest> requests = new ArrayList<>();
+        Map<String, String> chunk = new HashMap<>();
+        for (final Map.Entry<String, String> tag : addedTags.entrySet()) {
+            chunk.put(tag.getKey(), tag.getValue());
+            if (chunk.size() == TagHelper.MAX_TAGS_PER_REQUEST) {
+                requests.add(TagResourceRequest.builder().resourceArn(resourceArn).tags(chunk).build());
+                chunk = new HashMap<>();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            requests.add(TagResourceRequest.builder().resourceArn(resourceArn).tags(chunk).build());
+        }
+        return requests;
     }
 
-    static UntagResourceRequest translateToUntagRequest(ResourceModel model, Set<String> removedTags) {
-        return UntagResourceRequest.builder()
-                .resourceArn(model.getClusterArn())
-                .tagKeys(removedTags)
-                .build();
+    /**
+     * @return UntagResource requests for the given tag keys, at most {@link TagHelper#MAX_TAGS_PER_REQUEST} keys each
+     */
+    static List<UntagResourceRequest> translateToUntagRequests(String resourceArn, Set<String> removedTags) {
+        final List<UntagResourceRequest> requests = new ArrayList<>();
+        List<String> chunk = new ArrayList<>();
+        for (final String key : removedTags) {
+            chunk.add(key);
+            if (chunk.size() == TagHelper.MAX_TAGS_PER_REQUEST) {
+                requests.add(UntagResourceRequest.builder().resourceArn(resourceArn).tagKeys(chunk).build());
+                chunk = new ArrayList<>();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            requests.add(UntagResourceRequest.builder().resourceArn(resourceArn).tagKeys(chunk).build());
+        }
+        return requests;
     }
 
     static ListTagsForResourceRequest translateToListTagsRequest(String resourceArn) {
@@ -91,16 +127,4 @@ public class RequestTranslator {
                 .resourceArn(resourceArn)
                 .build();
     }
-
-    static boolean areListsTheSameIgnoreOrder(List<String> a, List<String> b) {
-        if (a == null && b == null) {
-            return true;
-        }
-
-        if (a == null || b == null) {
-            return false;
-        }
-
-        return a.size() == b.size() && a.containsAll(b) && b.containsAll(a);
-    }
 }
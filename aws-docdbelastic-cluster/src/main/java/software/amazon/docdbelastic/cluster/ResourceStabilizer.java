@@ -1,5 +1,6 @@
 package software.amazon.docdbelastic.cluster;
 
+import java.time.Duration;
 import software.amazon.awssdk.services.docdbelastic.DocDbElasticClient;
 import software.amazon.awssdk.services.docdbelastic.model.GetClusterRequest;
 import software.amazon.awssdk.services.docdbelastic.model.GetClusterResponse;
@@ -9,13 +10,47 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProxyClient;
 
 public class ResourceStabilizer {
+    static final LocalPolling CHECK_ONCE = LocalPolling.builder().maxWait(Duration.ZERO).build();
+
     private ProxyClient<DocDbElasticClient> proxyClient;
-    private Logger logger;
+    private StructuredLogger logger;
+    private LocalPolling localPolling;
+    private String caller;
+    private StatusPoller statusPoller;
 
     public ResourceStabilizer(ProxyClient<DocDbElasticClient> proxyClient, Logger logger) {
+        this(proxyClient, logger, CHECK_ONCE);
+    }
+
+    /**
+     * @param localPolling how long each stabilization check may keep polling in-process before the handler returns
+     *                     to wait for a callback
+     */
+    public ResourceStabilizer(ProxyClient<DocDbElasticClient> proxyClient, Logger logger, LocalPolling localPolling) {
+        this(proxyClient, logger, localPolling, null);
+    }
+
+    /**
+     * @param caller identity of the caller whose credentials proxyClient calls with; checks share ListClusters sweeps
+     *               only with stabilizations of the same caller, and never if it is null
+     */
+    public ResourceStabilizer(ProxyClient<DocDbElasticClient> proxyClient, Logger logger, LocalPolling localPolling,
+                              String caller) {
+        this(proxyClient, logger, localPolling, caller, StatusPoller.shared());
+    }
+
+    /**
+     * @param statusPoller answers checks of clusters still in transition from ListClusters sweeps shared with other
+     *                     stabilizations
+     */
+    ResourceStabilizer(ProxyClient<DocDbElasticClient> proxyClient, Logger logger, LocalPolling localPolling,
+                       String caller, StatusPoller statusPoller) {
 
         this.proxyClient = proxyClient;
-        this.logger = logger;
+        this.logger = StructuredLogger.of(logger);
+        this.localPolling = localPolling;
+        this.caller = caller;
+        this.statusPoller = statusPoller;
     }
 
     public boolean stabilizeCreate(ResourceModel model, CallbackContext context) {
@@ -23,9 +58,10 @@ public class ResourceStabilizer {
             return false;
         }
 
-        boolean stabilized = stabilizeCreateOrUpdate(model, context);
-        logger.log(String.format("%s [%s] creation has stabilized: %s", ResourceModel.TYPE_NAME,
-                model.getPrimaryIdentifier(), stabilized));
+        boolean stabilized = localPolling.poll(() -> stabilizeCreateOrUpdate(model, context, StabilizationRules.CREATE),
+                                               context.getInvocationDeadline());
+        logger.sampled("stabilizeCreate", status(context), "%s [%s] creation has stabilized: %s", ResourceModel.TYPE_NAME,
+                model.getPrimaryIdentifier(), stabilized);
         return stabilized;
     }
 
@@ -35,37 +71,60 @@ public class ResourceStabilizer {
             return false;
         }
 
-        boolean stabilized = stabilizeCreateOrUpdate(model, context);
+        boolean stabilized = localPolling.poll(() -> stabilizeCreateOrUpdate(model, context, StabilizationRules.UPDATE),
+                                               context.getInvocationDeadline());
 
-        logger.log(String.format("%s [%s] updating has stabilized: %s", ResourceModel.TYPE_NAME,
-                model.getPrimaryIdentifier(), stabilized));
+        logger.sampled("stabilizeUpdate", status(context), "%s [%s] updating has stabilized: %s", ResourceModel.TYPE_NAME,
+                model.getPrimaryIdentifier(), stabilized);
         return stabilized;
     }
 
-    private boolean stabilizeCreateOrUpdate(ResourceModel model, CallbackContext context) {
+    private boolean stabilizeCreateOrUpdate(ResourceModel model, CallbackContext context, StabilizationRules rules) {
+        if (listedInTransition(model, rules)) {
+            return false;
+        }
+
         GetClusterResponse response = proxyClient.injectCredentialsAndInvokeV2(
                 RequestTranslator.translateToReadRequest(model),
                 proxyClient.client()::getCluster);
 
         context.setCluster(response.cluster());
-        return Status.ACTIVE == response.cluster().status();
+        return rules.isStabilized(response.cluster(), context);
     }
 
     public boolean stabilizeDelete(ResourceModel model, CallbackContext context) {
-        boolean stabilized = false;
         GetClusterRequest readRequest =
                 RequestTranslator.translateToReadRequest(model);
 
-        try {
-            GetClusterResponse response = proxyClient.injectCredentialsAndInvokeV2(readRequest, proxyClient.client()::getCluster);
-            context.setCluster(response.cluster());
-        } catch (ResourceNotFoundException e) {
-            stabilized = true;
-        }
-        logger.log(String.format("%s [%s] deletion has stabilized: %s",
+        boolean stabilized = localPolling.poll(() -> {
+            if (listedInTransition(model, StabilizationRules.DELETE)) {
+                return false;
+            }
+            try {
+                GetClusterResponse response = proxyClient.injectCredentialsAndInvokeV2(readRequest, proxyClient.client()::getCluster);
+                context.setCluster(response.cluster());
+                return StabilizationRules.DELETE.isStabilized(response.cluster(), context);
+            } catch (ResourceNotFoundException e) {
+                return true;
+            }
+        }, context.getInvocationDeadline());
+        logger.sampled("stabilizeDelete", stabilized ? null : status(context), "%s [%s] deletion has stabilized: %s",
                 ResourceModel.TYPE_NAME,
                 model.getPrimaryIdentifier(),
-                stabilized));
+                stabilized);
         return stabilized;
     }
+
+    /**
+     * @return whether the latest shared sweep lists the cluster in a status that is still to be waited for, so that
+     * reading it in full can wait
+     */
+    private boolean listedInTransition(ResourceModel model, StabilizationRules rules) {
+        Status listed = statusPoller.listedStatus(proxyClient, caller, model.getClusterArn());
+        return listed != null && rules.isTransitional(listed);
+    }
+
+    private static Status status(CallbackContext context) {
+        return context.getCluster() == null ? null : context.getCluster().status();
+    }
 }
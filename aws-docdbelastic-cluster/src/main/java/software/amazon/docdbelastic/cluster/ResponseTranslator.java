@@ -9,9 +9,17 @@ import software.amazon.awssdk.services.docdbelastic.model.ListClustersResponse;
 
 public class ResponseTranslator {
     static ResourceModel translateFromReadResponse(GetClusterResponse response, Set<Tag> tags) {
+        return translateFromCluster(response.cluster(), tags);
+    }
 
-        Cluster cluster = response.cluster();
-
+    /**
+     * Translates a cluster already held by the handler, e.g. the last one observed during stabilization
+     *
+     * @param cluster the cluster as returned by the service
+     * @param tags the tags of the cluster
+     * @return resource model
+     */
+    static ResourceModel translateFromCluster(Cluster cluster, Set<Tag> tags) {
         return ResourceModel.builder()
                 .clusterArn(cluster.clusterArn())
                 .clusterName(cluster.clusterName())
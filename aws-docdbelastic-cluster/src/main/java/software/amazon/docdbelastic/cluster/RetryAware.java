@@ -0,0 +1,14 @@
+package software.amazon.docdbelastic.cluster;
+
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * Proxy client layer that counts its calls, or passes them on to a layer counting them, in the invocation's
+ * {@link ServiceCallMetrics}, told by {@link RetryingProxyClient} which calls repeat an attempt that failed.
+ */
+interface RetryAware<ClientT> extends ProxyClient<ClientT> {
+    /**
+     * @return the same client counting its calls as retries
+     */
+    ProxyClient<ClientT> forRetry();
+}
@@ -0,0 +1,92 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * Backoff for retryable service errors, see {@link ExceptionTranslator#isRetryable(Throwable)}. Calls are first retried
+ * within the invocation with decorrelated jitter, each delay drawn between the base delay and three times the previous
+ * one. Once the invocation budget would be exceeded, the handler returns IN_PROGRESS and is re-invoked after a callback
+ * delay drawn the same way.
+ */
+@lombok.Builder(toBuilder = true)
+@lombok.Getter
+@lombok.ToString
+public class RetryPolicy {
+    /**
+     * Smallest delay before an in-process retry
+     */
+    @lombok.Builder.Default
+    private final Duration baseDelay = Duration.ofMillis(100L);
+
+    /**
+     * Largest delay before an in-process retry
+     */
+    @lombok.Builder.Default
+    private final Duration maxDelay = Duration.ofSeconds(5L);
+
+    /**
+     * Attempts per call within one invocation, including the first
+     */
+    @lombok.Builder.Default
+    private final int maxAttempts = 5;
+
+    /**
+     * Time from the start of an invocation after which no retry is started in-process. The handler is not told how
+     * long its invocation may run, so this stays well below the handler timeout.
+     */
+    @lombok.Builder.Default
+    private final Duration invocationBudget = Duration.ofSeconds(20L);
+
+    /**
+     * Smallest callback delay after a retryable error
+     */
+    @lombok.Builder.Default
+    private final Duration callbackBaseDelay = Duration.ofSeconds(5L);
+
+    /**
+     * Largest callback delay after a retryable error
+     */
+    @lombok.Builder.Default
+    private final Duration callbackMaxDelay = Duration.ofSeconds(60L);
+
+    /**
+     * Consecutive invocations that may end in a retryable error before the handler fails
+     */
+    @lombok.Builder.Default
+    private final int maxCallbacks = 10;
+
+    /**
+     * @param deadlineNanos {@link System#nanoTime()} after which calls are no longer retried in-process
+     *
+     * @return client retrying synchronous calls that fail with a retryable error
+     */
+    public <ClientT> ProxyClient<ClientT> retrying(final ProxyClient<ClientT> proxyClient, final long deadlineNanos) {
+        return new RetryingProxyClient<>(proxyClient, this, deadlineNanos);
+    }
+
+    /**
+     * @param previous delay before the previous retry, or the base delay before the first
+     *
+     * @return delay before the next in-process retry
+     */
+    Duration nextDelay(final Duration previous) {
+        return Duration.ofMillis(decorrelatedJitter(baseDelay.toMillis(), maxDelay.toMillis(), previous.toMillis()));
+    }
+
+    /**
+     * @param previousSeconds callback delay returned by the previous invocation, or 0
+     *
+     * @return callback delay in seconds for an invocation ending in a retryable error
+     */
+    int nextCallbackDelaySeconds(final int previousSeconds) {
+        return (int) decorrelatedJitter(callbackBaseDelay.getSeconds(), callbackMaxDelay.getSeconds(), previousSeconds);
+    }
+
+    private static long decorrelatedJitter(final long base, final long cap, final long previous) {
+        final long upper = Math.max(base, previous * 3);
+        return Math.min(cap, base + (long) (ThreadLocalRandom.current().nextDouble() * (upper - base)));
+    }
+}
@@ -0,0 +1,125 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.services.docdbelastic.model.CreateClusterRequest;
+import software.amazon.awssdk.services.docdbelastic.model.DeleteClusterRequest;
+import software.amazon.awssdk.services.docdbelastic.model.TagResourceRequest;
+import software.amazon.awssdk.services.docdbelastic.model.UntagResourceRequest;
+import software.amazon.awssdk.services.docdbelastic.model.UpdateClusterRequest;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * Proxy client that retries synchronous calls failing with a retryable error as allowed by its {@link RetryPolicy}.
+ * Attempts after the first go through {@link RetryAware#forRetry()} of the next layer, so that metrics count them as
+ * retries. Calls that change a cluster are retried on throttling only: after a server-side or I/O error the change
+ * may have gone through, so the error is thrown translated right away and the handler resumes after a callback delay,
+ * where it finds out what became of the change.
+ * When retries run out the error is thrown translated, so it ends the invocation even inside a stabilizer and the
+ * handler can resume it after a callback delay. Async calls are passed through unchanged; their failures surface
+ * through {@link ExceptionTranslator#join}.
+ */
+public class RetryingProxyClient<ClientT> implements CallGraphScoped<ClientT> {
+    private static final Set<Class<? extends AwsRequest>> MUTATING = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            CreateClusterRequest.class,
+            UpdateClusterRequest.class,
+            DeleteClusterRequest.class,
+            TagResourceRequest.class,
+            UntagResourceRequest.class)));
+
+    private final ProxyClient<ClientT> delegate;
+    private final RetryPolicy policy;
+    private final long deadlineNanos;
+
+    RetryingProxyClient(final ProxyClient<ClientT> delegate, final RetryPolicy policy, final long deadlineNanos) {
+        this.delegate = delegate;
+        this.policy = policy;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * @return a client with the same retry deadline whose calls are attributed to the given call graph
+     */
+    @Override
+    public RetryingProxyClient<ClientT> forCallGraph(final String callGraph) {
+        return new RetryingProxyClient<>(BaseHandlerStd.forCallGraph(delegate, callGraph), policy, deadlineNanos);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT
+    injectCredentialsAndInvokeV2(final RequestT request, final Function<RequestT, ResponseT> requestFunction) {
+        return retried(request, client -> client.injectCredentialsAndInvokeV2(request, requestFunction));
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT>
+    injectCredentialsAndInvokeV2Async(final RequestT request,
+                                      final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+        return delegate.injectCredentialsAndInvokeV2Async(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>> IterableT
+    injectCredentialsAndInvokeIterableV2(final RequestT request, final Function<RequestT, IterableT> requestFunction) {
+        return retried(request, client -> client.injectCredentialsAndInvokeIterableV2(request, requestFunction));
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT>
+    injectCredentialsAndInvokeV2InputStream(final RequestT request,
+                                            final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction) {
+        return retried(request, client -> client.injectCredentialsAndInvokeV2InputStream(request, requestFunction));
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT>
+    injectCredentialsAndInvokeV2Bytes(final RequestT request,
+                                      final Function<RequestT, ResponseBytes<ResponseT>> requestFunction) {
+        return retried(request, client -> client.injectCredentialsAndInvokeV2Bytes(request, requestFunction));
+    }
+
+    @Override
+    public ClientT client() {
+        return delegate.client();
+    }
+
+    private <T> T retried(final AwsRequest request, final Function<ProxyClient<ClientT>, T> call) {
+        final boolean mutating = MUTATING.contains(request.getClass());
+        Duration delay = policy.getBaseDelay();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return call.apply(attempt == 1 || !(delegate instanceof RetryAware)
+                        ? delegate
+                        : ((RetryAware<ClientT>) delegate).forRetry());
+            } catch (RuntimeException e) {
+                if (!ExceptionTranslator.isRetryable(e)) {
+                    throw e;
+                }
+                if (mutating && !ExceptionTranslator.isThrottling(e)) {
+                    throw ExceptionTranslator.translateRetryable(e);
+                }
+                delay = policy.nextDelay(delay);
+                if (attempt >= policy.getMaxAttempts() || System.nanoTime() + delay.toNanos() > deadlineNanos) {
+                    throw ExceptionTranslator.translateRetryable(e);
+                }
+                try {
+                    Thread.sleep(delay.toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw ExceptionTranslator.translateRetryable(e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * Service calls made during one handler invocation, counted per call graph and API and written out as CloudWatch
+ * Embedded Metric Format log lines, one per call graph and API, when the invocation ends. A call is counted as a
+ * retry when {@link RetryingProxyClient} repeats an attempt that failed.
+ */
+public class ServiceCallMetrics {
+    static final String NAMESPACE = "DocDBElastic/ClusterResourceProvider";
+
+    /**
+     * EMF accepts at most 100 values per metric and log line
+     */
+    private static final int MAX_LATENCY_SAMPLES = 100;
+
+    private final Map<String, Stats> stats = new TreeMap<>();
+    private final String operation;
+    private final long now;
+
+    private static final class Stats {
+        private final String callGraph;
+        private final String api;
+        private long calls;
+        private long errors;
+        private long throttles;
+        private long retries;
+        private long cacheHits;
+        private long cacheMisses;
+        private long coalesced;
+        private long coalescingLeaders;
+        private final List<Long> latencies = new ArrayList<>();
+
+        private Stats(final String callGraph, final String api) {
+            this.callGraph = callGraph;
+            this.api = api;
+        }
+    }
+
+    /**
+     * @param operation handler operation the calls belong to, e.g. Create
+     */
+    public ServiceCallMetrics(final String operation) {
+        this(operation, System.currentTimeMillis());
+    }
+
+    ServiceCallMetrics(final String operation, final long now) {
+        this.operation = operation;
+        this.now = now;
+    }
+
+    /**
+     * @param callGraph call graph calls through the returned client are attributed to, until rebound with
+     *                  {@link InstrumentedProxyClient#forCallGraph}
+     *
+     * @return client recording every call into these metrics
+     */
+    public <ClientT> ProxyClient<ClientT> instrument(final ProxyClient<ClientT> proxyClient, final String callGraph) {
+        return new InstrumentedProxyClient<>(proxyClient, this, callGraph);
+    }
+
+    /**
+     * @param retry whether the call repeats an attempt that failed
+     */
+    synchronized void record(final String callGraph,
+                             final String api,
+                             final long latencyNanos,
+                             final Throwable error,
+                             final boolean retry) {
+        final Stats entry = stats.computeIfAbsent(callGraph + "|" + api, k -> new Stats(callGraph, api));
+        entry.calls++;
+        if (retry) {
+            entry.retries++;
+        }
+        if (entry.latencies.size() < MAX_LATENCY_SAMPLES) {
+            entry.latencies.add(latencyNanos / 1_000_000L);
+        }
+        if (error != null) {
+            entry.errors++;
+            if (ExceptionTranslator.isThrottling(error)) {
+                entry.throttles++;
+            }
+        }
+    }
+
+    /**
+     * Counts a lookup of a cached API; a miss is followed by the call itself, which is recorded separately
+     */
+    synchronized void recordCacheLookup(final String callGraph, final String api, final boolean hit) {
+        final Stats entry = stats.computeIfAbsent(callGraph + "|" + api, k -> new Stats(callGraph, api));
+        if (hit) {
+            entry.cacheHits++;
+        } else {
+            entry.cacheMisses++;
+        }
+    }
+
+    /**
+     * Counts a read request that either joined an identical call in flight or made the call itself
+     */
+    synchronized void recordCoalescing(final String callGraph, final String api, final boolean joined) {
+        final Stats entry = stats.computeIfAbsent(callGraph + "|" + api, k -> new Stats(callGraph, api));
+        if (joined) {
+            entry.coalesced++;
+        } else {
+            entry.coalescingLeaders++;
+        }
+    }
+
+    synchronized long calls(final String callGraph, final String api) {
+        final Stats entry = stats.get(callGraph + "|" + api);
+        return entry == null ? 0L : entry.calls;
+    }
+
+    /**
+     * Logs one EMF line per call graph and API seen; logs nothing if no call was made
+     */
+    public synchronized void emit(final Logger logger) {
+        for (final Stats entry : stats.values()) {
+            logger.log(toEmf(entry).toString());
+        }
+    }
+
+    private JSONObject toEmf(final Stats entry) {
+        final JSONArray metrics = new JSONArray()
+                .put(metric("Calls", "Count"))
+                .put(metric("Errors", "Count"))
+                .put(metric("Throttles", "Count"))
+                .put(metric("Retries", "Count"))
+                .put(metric("Latency", "Milliseconds"));
+        if (entry.cacheHits + entry.cacheMisses > 0) {
+            metrics.put(metric("CacheHits", "Count")).put(metric("CacheMisses", "Count"));
+        }
+        if (entry.coalesced > 0) {
+            metrics.put(metric("Coalesced", "Count")).put(metric("CoalescingRatio", "None"));
+        }
+        final JSONArray dimensions = new JSONArray()
+                .put(new JSONArray().put("Operation").put("Api"))
+                .put(new JSONArray().put("CallGraph").put("Api"));
+        final JSONObject directive = new JSONObject()
+                .put("Namespace", NAMESPACE)
+                .put("Dimensions", dimensions)
+                .put("Metrics", metrics);
+
+        final JSONObject line = new JSONObject()
+                .put("_aws", new JSONObject()
+                        .put("Timestamp", now)
+                        .put("CloudWatchMetrics", new JSONArray().put(directive)))
+                .put("ResourceType", ResourceModel.TYPE_NAME)
+                .put("Operation", operation)
+                .put("CallGraph", entry.callGraph)
+                .put("Api", entry.api)
+                .put("Calls", entry.calls)
+                .put("Errors", entry.errors)
+                .put("Throttles", entry.throttles)
+                .put("Retries", entry.retries)
+                .put("Latency", new JSONArray(entry.latencies));
+        if (entry.cacheHits + entry.cacheMisses > 0) {
+            line.put("CacheHits", entry.cacheHits).put("CacheMisses", entry.cacheMisses);
+        }
+        if (entry.coalesced > 0) {
+            line.put("Coalesced", entry.coalesced)
+                .put("CoalescingRatio", (double) entry.coalesced / (entry.coalesced + entry.coalescingLeaders));
+        }
+        return line;
+    }
+
+    private static JSONObject metric(final String name, final String unit) {
+        return new JSONObject().put("Name", name).put("Unit", unit);
+    }
+}
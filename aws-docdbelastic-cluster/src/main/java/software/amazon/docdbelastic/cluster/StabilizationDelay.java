@@ -0,0 +1,68 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.time.Duration;
+import java.util.Map;
+
+import software.amazon.awssdk.services.docdbelastic.model.Cluster;
+import software.amazon.awssdk.services.docdbelastic.model.Status;
+import software.amazon.cloudformation.proxy.Delay;
+
+/**
+ * Stabilization delay that polls quickly at first and backs off exponentially towards a ceiling chosen by the
+ * last observed cluster status. Elapsed time is tracked in the callback context so the timeout holds across
+ * re-invocations, and no delay ever overshoots the remaining timeout.
+ */
+@lombok.Builder(toBuilder = true)
+public class StabilizationDelay implements Delay {
+    private final Duration timeout;
+    private final Duration initialDelay;
+    private final Duration maxDelay;
+    @lombok.Singular
+    private final Map<Status, Duration> statusDelays;
+    private final CallbackContext callbackContext;
+
+    /**
+     * Binds this strategy to the callback context of the current invocation
+     *
+     * @param context callback context holding the last observed cluster and the stabilization start time
+     *
+     * @return a copy of this strategy reading from and recording into the given context
+     */
+    StabilizationDelay forContext(final CallbackContext context) {
+        return toBuilder().callbackContext(context).build();
+    }
+
+    @Override
+    public Duration nextDelay(int attempt) {
+        final long now = System.currentTimeMillis();
+        if (callbackContext.getStabilizationStartTime() == null) {
+            callbackContext.setStabilizationStartTime(now);
+        }
+
+        final Duration remaining = timeout.minusMillis(now - callbackContext.getStabilizationStartTime());
+        if (remaining.isNegative() || remaining.isZero()) {
+            return Duration.ZERO;
+        }
+
+        final Duration ceiling = ceilingFor(callbackContext.getCluster());
+        Duration delay = initialDelay;
+        for (int i = 1; i < attempt && delay.compareTo(ceiling) < 0; i++) {
+            delay = delay.multipliedBy(2);
+        }
+        if (delay.compareTo(ceiling) > 0) {
+            delay = ceiling;
+        }
+        if (delay.compareTo(remaining) > 0) {
+            delay = remaining.getSeconds() > 0 ? Duration.ofSeconds(remaining.getSeconds()) : Duration.ofSeconds(1L);
+        }
+        return delay;
+    }
+
+    private Duration ceilingFor(final Cluster cluster) {
+        final Duration statusDelay = cluster == null ? null : statusDelays.get(cluster.status());
+        if (statusDelay == null || statusDelay.compareTo(maxDelay) > 0) {
+            return maxDelay;
+        }
+        return statusDelay;
+    }
+}
@@ -0,0 +1,158 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+
+import software.amazon.awssdk.services.docdbelastic.model.Cluster;
+import software.amazon.awssdk.services.docdbelastic.model.Status;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
+import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+
+/**
+ * Cluster statuses an operation waits for, passes through, or cannot recover from. A status in none of these sets
+ * means the cluster was changed by someone else, and the operation stops as not stabilized. Statuses unknown to this
+ * SDK version, and a missing status, are always treated as transitional. The first read after a mutation may still
+ * show the status from before it, so rules with confirming statuses only fail on a failure status once one of them
+ * was seen, or once the failure grace period has passed since the first check.
+ */
+@lombok.Builder
+@lombok.Getter
+@lombok.ToString
+public class StabilizationRules {
+    /**
+     * Failed states a cluster does not leave on its own, with the error code reported for each
+     */
+    static final Map<Status, HandlerErrorCode> TERMINAL_FAILURES = new EnumMap<>(Status.class);
+
+    private static final Map<Status, String> FAILURE_REASONS = new EnumMap<>(Status.class);
+
+    static {
+        TERMINAL_FAILURES.put(Status.INACCESSIBLE_ENCRYPTION_CREDS, HandlerErrorCode.AccessDenied);
+        TERMINAL_FAILURES.put(Status.INVALID_SECURITY_GROUP_ID, HandlerErrorCode.InvalidRequest);
+        TERMINAL_FAILURES.put(Status.INVALID_SUBNET_ID, HandlerErrorCode.InvalidRequest);
+        TERMINAL_FAILURES.put(Status.IP_ADDRESS_LIMIT_EXCEEDED, HandlerErrorCode.ServiceLimitExceeded);
+        TERMINAL_FAILURES.put(Status.VPC_ENDPOINT_LIMIT_EXCEEDED, HandlerErrorCode.ServiceLimitExceeded);
+
+        FAILURE_REASONS.put(Status.INACCESSIBLE_ENCRYPTION_CREDS, "the cluster cannot access its KMS key");
+        FAILURE_REASONS.put(Status.INVALID_SECURITY_GROUP_ID, "a VPC security group of the cluster is invalid");
+        FAILURE_REASONS.put(Status.INVALID_SUBNET_ID, "a subnet of the cluster is invalid");
+        FAILURE_REASONS.put(Status.IP_ADDRESS_LIMIT_EXCEEDED, "the subnets of the cluster are out of IP addresses");
+        FAILURE_REASONS.put(Status.VPC_ENDPOINT_LIMIT_EXCEEDED, "the VPC endpoint limit of the account is reached");
+    }
+
+    public static final StabilizationRules CREATE = StabilizationRules.builder()
+            .target(Status.ACTIVE)
+            .transitional(Status.CREATING)
+            .transitional(Status.UPDATING)
+            .failures(TERMINAL_FAILURES)
+            .build();
+
+    public static final StabilizationRules UPDATE = StabilizationRules.builder()
+            .target(Status.ACTIVE)
+            .transitional(Status.UPDATING)
+            .failures(TERMINAL_FAILURES)
+            .confirmingStatus(Status.UPDATING)
+            .failureGracePeriod(Duration.ofMinutes(1L))
+            .build();
+
+    /**
+     * The target of a delete is the cluster being gone, which is not a status. A failed cluster can still be deleted,
+     * so failure statuses are waited through like any other.
+     */
+    public static final StabilizationRules DELETE = StabilizationRules.builder()
+            .transitional(Status.DELETING)
+            .transitional(Status.ACTIVE)
+            .transitional(Status.CREATING)
+            .transitional(Status.UPDATING)
+            .transitionals(TERMINAL_FAILURES.keySet())
+            .build();
+
+    @lombok.Singular
+    private final Set<Status> targets;
+    @lombok.Singular
+    private final Set<Status> transitionals;
+    @lombok.Singular
+    private final Map<Status, HandlerErrorCode> failures;
+    @lombok.Singular
+    private final Set<Status> confirmingStatuses;
+    private final Duration failureGracePeriod;
+
+    /**
+     * Like {@link #isStabilized(Cluster)}, except that a failure status is waited through until the rules' confirming
+     * statuses or grace period show that the read is not from before the mutation
+     *
+     * @param context callback context recording whether a confirming status was seen and when checks started
+     */
+    boolean isStabilized(final Cluster cluster, final CallbackContext context) {
+        final long now = System.currentTimeMillis();
+        if (context.getFirstStatusCheckTime() == null) {
+            context.setFirstStatusCheckTime(now);
+        }
+        if (confirmingStatuses.contains(cluster.status())) {
+            context.setConfirmingStatusSeen(true);
+        }
+        if (failures.containsKey(cluster.status()) && !failuresConfirmed(context, now)) {
+            return false;
+        }
+        return isStabilized(cluster);
+    }
+
+    private boolean failuresConfirmed(final CallbackContext context, final long now) {
+        return confirmingStatuses.isEmpty()
+                || context.isConfirmingStatusSeen()
+                || failureGracePeriod != null && now - context.getFirstStatusCheckTime() >= failureGracePeriod.toMillis();
+    }
+
+    /**
+     * @param cluster cluster as last read
+     *
+     * @return whether the cluster reached a target status; false while it is in transition
+     *
+     * @throws BaseHandlerException when the cluster is in a failed or unexpected status
+     */
+    boolean isStabilized(final Cluster cluster) {
+        final Status status = cluster.status();
+        if (isTransitional(status)) {
+            return false;
+        }
+        if (targets.contains(status)) {
+            return true;
+        }
+
+        throw failure(cluster, failures.get(status));
+    }
+
+    /**
+     * @return whether a cluster in the given status is still to be waited for; a status this SDK does not know counts
+     * as a transition
+     */
+    boolean isTransitional(final Status status) {
+        return status == null || status == Status.UNKNOWN_TO_SDK_VERSION || transitionals.contains(status);
+    }
+
+    private static BaseHandlerException failure(final Cluster cluster, final HandlerErrorCode errorCode) {
+        if (errorCode == null) {
+            return new CfnNotStabilizedException(ResourceModel.TYPE_NAME,
+                    String.format("%s, unexpected status %s", cluster.clusterArn(), cluster.status()));
+        }
+
+        final String message = String.format("%s [%s] is in status %s: %s", ResourceModel.TYPE_NAME,
+                cluster.clusterArn(), cluster.status(), FAILURE_REASONS.getOrDefault(cluster.status(), "the cluster failed"));
+        switch (errorCode) {
+            case AccessDenied:
+                return new CfnAccessDeniedException(message);
+            case InvalidRequest:
+                return new CfnInvalidRequestException(message);
+            case ServiceLimitExceeded:
+                return new CfnServiceLimitExceededException(ResourceModel.TYPE_NAME, message);
+            default:
+                return new CfnNotStabilizedException(ResourceModel.TYPE_NAME, message);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import software.amazon.awssdk.services.docdbelastic.DocDbElasticClient;
+import software.amazon.awssdk.services.docdbelastic.model.ClusterInList;
+import software.amazon.awssdk.services.docdbelastic.model.ListClustersResponse;
+import software.amazon.awssdk.services.docdbelastic.model.Status;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * Statuses of the clusters that stabilizations on the container are waiting for, read for all of them at once by
+ * sweeping through ListClusters instead of with a GetCluster per cluster. Sweeps are made per {@link CallerIdentity
+ * caller}, account and region, with the credentials of that caller, at most once per
+ * {@link StatusPollerOptions#getSweepInterval()}, and only while more stabilizations of that caller, account and region
+ * are waiting than the last sweep needed pages. A stabilization whose cluster is listed in transition skips its
+ * GetCluster; the cluster is read in full once its listed status says the wait is over. The sweeps of a caller,
+ * account and region nobody has asked about for twice the sweep interval are dropped, since callers change with each
+ * role session.
+ *
+ * <p>Sweeps are opt-in, because listed statuses lag by up to one interval and sweeping needs
+ * docdb-elastic:ListClusters, which the create, update and delete handlers are not granted by default. Unless the
+ * {@value StatusPollerOptions#ENVIRONMENT_VARIABLE} environment variable of the handler function is set to true, or
+ * {@link #configure} is called, the shared poller answers nothing and every check reads its cluster.
+ */
+public class StatusPoller {
+    private static volatile StatusPoller shared = new StatusPoller(StatusPollerOptions.fromEnvironment());
+
+    private final StatusPollerOptions options;
+    private final LongSupplier nanoClock;
+    private final Map<String, Sweeps> scopes = new ConcurrentHashMap<>();
+
+    private final class Sweeps {
+        private final Map<String, Long> waiting = new HashMap<>();
+        private final Map<String, Status> statuses = new HashMap<>();
+        private volatile long askedAt = nanoClock.getAsLong();
+        private long sweptAt;
+        private boolean swept;
+        private int pages;
+
+        private synchronized Status statusOf(final ProxyClient<DocDbElasticClient> proxyClient, final String clusterArn) {
+            final long now = nanoClock.getAsLong();
+            final long interval = options.getSweepInterval().toNanos();
+            askedAt = now;
+            waiting.put(clusterArn, now);
+            waiting.values().removeIf(askedAt -> now - askedAt > 2 * interval);
+
+            if (swept && now - sweptAt < interval) {
+                return statuses.get(clusterArn);
+            }
+            // a sweep costs a call per page, reading each waiting cluster a call per cluster
+            if (waiting.size() <= Math.max(1, pages)) {
+                return null;
+            }
+            sweep(proxyClient, now);
+            return statuses.get(clusterArn);
+        }
+
+        private void sweep(final ProxyClient<DocDbElasticClient> proxyClient, final long now) {
+            final Map<String, Status> listed = new HashMap<>();
+            int listedPages = 0;
+            String nextToken = null;
+            do {
+                final ListClustersResponse page = proxyClient.injectCredentialsAndInvokeV2(
+                        RequestTranslator.translateToListRequest(nextToken, options.getPageSize()),
+                        proxyClient.client()::listClusters);
+                // clusters nobody waits for yet are kept too, for stabilizations that start before the next sweep
+                for (final ClusterInList cluster : page.clusters()) {
+                    listed.put(cluster.clusterArn(), cluster.status());
+                }
+                listedPages++;
+                nextToken = page.nextToken();
+            } while (nextToken != null);
+
+            statuses.clear();
+            statuses.putAll(listed);
+            pages = listedPages;
+            sweptAt = now;
+            swept = true;
+        }
+    }
+
+    /**
+     * @param options sweep settings, or null for a poller that never sweeps
+     */
+    public StatusPoller(final StatusPollerOptions options) {
+        this(options, System::nanoTime);
+    }
+
+    StatusPoller(final StatusPollerOptions options, final LongSupplier nanoClock) {
+        this.options = options;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * @return the poller used by all stabilizations in this JVM
+     */
+    public static StatusPoller shared() {
+        return shared;
+    }
+
+    /**
+     * Turns the JVM-wide sweeps on with the given settings, or off with null
+     */
+    public static void configure(final StatusPollerOptions options) {
+        shared = new StatusPoller(options);
+    }
+
+    public boolean isEnabled() {
+        return options != null;
+    }
+
+    /**
+     * Registers the cluster as waited for and answers from the caller's latest sweep of its account and region,
+     * sweeping first if that is due and pays off
+     *
+     * @param proxyClient client of the cluster's account and region, used for the sweep
+     * @param caller identity of the caller whose credentials the client calls with, or null to never share sweeps
+     *
+     * @return status of the cluster as listed by the latest sweep, or null if the caller must read the cluster itself:
+     * no sweep pays off yet, or the sweep did not list the cluster
+     */
+    public Status listedStatus(final ProxyClient<DocDbElasticClient> proxyClient,
+                               final String caller,
+                               final String clusterArn) {
+        if (!isEnabled() || caller == null || clusterArn == null) {
+            return null;
+        }
+        evictIdle();
+        return scopes.computeIfAbsent(caller + "|" + scopeOf(clusterArn), scope -> new Sweeps())
+                .statusOf(proxyClient, clusterArn);
+    }
+
+    /**
+     * Drops the sweeps nobody asked about for twice the interval; by then none of their clusters is waited for and
+     * their statuses are out of date
+     */
+    private void evictIdle() {
+        final long now = nanoClock.getAsLong();
+        final long idle = 2 * options.getSweepInterval().toNanos();
+        scopes.values().removeIf(sweeps -> now - sweeps.askedAt > idle);
+    }
+
+    int scopeCount() {
+        return scopes.size();
+    }
+
+    /**
+     * @return account and region of the cluster, in the form of {@link ClusterInventory#scopeOf}
+     */
+    static String scopeOf(final String clusterArn) {
+        // arn:partition:docdb-elastic:region:account:cluster/id
+        final String[] parts = clusterArn.split(":", 6);
+        return parts.length < 6 ? clusterArn : parts[4] + "/" + parts[3];
+    }
+}
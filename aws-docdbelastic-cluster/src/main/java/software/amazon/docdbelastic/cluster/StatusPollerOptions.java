@@ -0,0 +1,39 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.time.Duration;
+import java.util.function.UnaryOperator;
+
+/**
+ * Controls the ListClusters sweeps of {@link StatusPoller}. The shared poller sweeps with the defaults once the
+ * {@value #ENVIRONMENT_VARIABLE} environment variable of the handler function is set to true.
+ */
+@lombok.Builder
+@lombok.Getter
+@lombok.ToString
+public class StatusPollerOptions {
+    static final String ENVIRONMENT_VARIABLE = "STATUS_SWEEPS";
+
+    /**
+     * How long the statuses of a sweep answer stabilization checks before the next sweep; a stabilization that has
+     * not checked its cluster for twice as long no longer counts as waiting
+     */
+    @lombok.Builder.Default
+    private final Duration sweepInterval = Duration.ofSeconds(5L);
+
+    /**
+     * Clusters asked for per ListClusters page; 100 is the most the service returns
+     */
+    @lombok.Builder.Default
+    private final int pageSize = 100;
+
+    /**
+     * @return the default options if the {@value #ENVIRONMENT_VARIABLE} environment variable is true, otherwise null
+     */
+    public static StatusPollerOptions fromEnvironment() {
+        return fromEnvironment(System::getenv);
+    }
+
+    static StatusPollerOptions fromEnvironment(final UnaryOperator<String> environment) {
+        return Boolean.parseBoolean(environment.apply(ENVIRONMENT_VARIABLE)) ? StatusPollerOptions.builder().build() : null;
+    }
+}
@@ -0,0 +1,192 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.json.JSONObject;
+import software.amazon.cloudformation.proxy.Logger;
+
+/**
+ * Leveled logger writing one JSON object per line, carrying the context fields of the invocation (operation, cluster
+ * ARN, attempt) next to the message. Messages are only formatted once their level is enabled, and repeated messages
+ * such as stabilization polls can be sampled. Models are logged through {@link #redact(ResourceModel)} so that
+ * write-only properties never reach the logs.
+ *
+ * <p>The threshold is read from the {@code LOG_LEVEL} environment variable and defaults to {@link Level#INFO}.
+ */
+public class StructuredLogger implements Logger {
+    public enum Level { DEBUG, INFO, WARN, ERROR }
+
+    /**
+     * writeOnlyProperties of the resource schema
+     */
+    static final List<String> WRITE_ONLY_PROPERTIES = Collections.singletonList("AdminUserPassword");
+
+    /**
+     * A sampled message is logged at least once every this many occurrences
+     */
+    static final int SAMPLE_EVERY = 10;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> PROPERTIES = new TypeReference<Map<String, Object>>() { };
+
+    private final Logger delegate;
+    private final Level threshold;
+    private final Map<String, Object> fields;
+    private final Map<String, Sample> samples;
+
+    private static final class Sample {
+        private Object value;
+        private int suppressed;
+    }
+
+    StructuredLogger(final Logger delegate, final Level threshold) {
+        this(delegate, threshold, Collections.emptyMap(), new HashMap<>());
+    }
+
+    private StructuredLogger(final Logger delegate, final Level threshold, final Map<String, Object> fields,
+                             final Map<String, Sample> samples) {
+        this.delegate = delegate;
+        this.threshold = threshold;
+        this.fields = fields;
+        this.samples = samples;
+    }
+
+    /**
+     * @return the logger itself if it already is structured, otherwise a structured logger writing to it
+     */
+    public static StructuredLogger of(final Logger logger) {
+        if (logger instanceof StructuredLogger) {
+            return (StructuredLogger) logger;
+        }
+        return new StructuredLogger(logger, thresholdFromEnvironment());
+    }
+
+    private static Level thresholdFromEnvironment() {
+        final String level = System.getenv("LOG_LEVEL");
+        try {
+            return level == null ? Level.INFO : Level.valueOf(level.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return Level.INFO;
+        }
+    }
+
+    /**
+     * @return a logger adding the given field to every line; it shares its sampling state with this one
+     */
+    public StructuredLogger with(final String key, final Object value) {
+        final Map<String, Object> withField = new LinkedHashMap<>(fields);
+        withField.put(key, value);
+        return new StructuredLogger(delegate, threshold, Collections.unmodifiableMap(withField), samples);
+    }
+
+    public boolean isEnabled(final Level level) {
+        return level.compareTo(threshold) >= 0;
+    }
+
+    public void debug(final String format, final Object... args) {
+        log(Level.DEBUG, format, args);
+    }
+
+    public void info(final String format, final Object... args) {
+        log(Level.INFO, format, args);
+    }
+
+    public void warn(final String format, final Object... args) {
+        log(Level.WARN, format, args);
+    }
+
+    public void error(final String format, final Object... args) {
+        log(Level.ERROR, format, args);
+    }
+
+    /**
+     * @param format {@link String#format} pattern, only applied if the level is enabled
+     */
+    public void log(final Level level, final String format, final Object... args) {
+        if (isEnabled(level)) {
+            write(level, args.length == 0 ? format : String.format(format, args), null);
+        }
+    }
+
+    /**
+     * @param message built only if the level is enabled
+     */
+    public void log(final Level level, final Supplier<String> message) {
+        if (isEnabled(level)) {
+            write(level, message.get(), null);
+        }
+    }
+
+    /**
+     * Logs an INFO message repeated on every poll only when its value changed since it was last logged, or once every
+     * {@link #SAMPLE_EVERY} occurrences otherwise. The line counts the occurrences suppressed since.
+     *
+     * @param key identifies the repeated message
+     * @param value state the message reports, e.g. the cluster status
+     */
+    public void sampled(final String key, final Object value, final String format, final Object... args) {
+        if (!isEnabled(Level.INFO)) {
+            return;
+        }
+        final int suppressed;
+        synchronized (samples) {
+            final Sample sample = samples.get(key);
+            if (sample != null && Objects.equals(sample.value, value) && sample.suppressed + 1 < SAMPLE_EVERY) {
+                sample.suppressed++;
+                return;
+            }
+            suppressed = sample == null ? 0 : sample.suppressed;
+            final Sample logged = new Sample();
+            logged.value = value;
+            samples.put(key, logged);
+        }
+        write(Level.INFO, String.format(format, args), suppressed);
+    }
+
+    /**
+     * Unstructured messages are logged at INFO
+     */
+    @Override
+    public void log(final String message) {
+        if (isEnabled(Level.INFO)) {
+            write(Level.INFO, message, null);
+        }
+    }
+
+    /**
+     * @return log argument rendering the model's properties without write-only ones as JSON, once it is formatted
+     */
+    public static Object redact(final ResourceModel model) {
+        return new Object() {
+            @Override
+            public String toString() {
+                if (model == null) {
+                    return "null";
+                }
+                final Map<String, Object> properties = MAPPER.convertValue(model, PROPERTIES);
+                properties.keySet().removeAll(WRITE_ONLY_PROPERTIES);
+                properties.values().removeIf(Objects::isNull);
+                return new JSONObject(properties).toString();
+            }
+        };
+    }
+
+    private void write(final Level level, final String message, final Integer suppressed) {
+        final JSONObject line = new JSONObject()
+                .put("level", level.name())
+                .put("message", message);
+        for (final Map.Entry<String, Object> field : fields.entrySet()) {
+            line.putOpt(field.getKey(), field.getValue());
+        }
+        line.putOpt("suppressed", suppressed == null || suppressed == 0 ? null : suppressed);
+        delegate.log(line.toString());
+    }
+}
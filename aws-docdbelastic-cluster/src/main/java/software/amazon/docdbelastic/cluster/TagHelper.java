@@ -2,21 +2,32 @@ package software.amazon.docdbelastic.cluster;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.docdbelastic.DocDbElasticAsyncClient;
 import software.amazon.awssdk.services.docdbelastic.DocDbElasticClient;
-import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.awssdk.services.docdbelastic.model.TagResourceRequest;
+import software.amazon.awssdk.services.docdbelastic.model.UntagResourceRequest;
 import software.amazon.cloudformation.proxy.Logger;
-import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 
 public class TagHelper {
+    /**
+     * Most tags or tag keys a single TagResource or UntagResource request accepts
+     */
+    static final int MAX_TAGS_PER_REQUEST = 50;
+
+    /**
+     * Most tags a cluster can have
+     */
+    static final int MAX_TAGS_PER_RESOURCE = 50;
 
     protected static Set<Tag> convertToCfnTags(final Map<String, String> tags) {
 
@@ -100,54 +111,62 @@ public class TagHelper {
             .collect(Collectors.toSet());
     }
 
-    protected static ProgressEvent<ResourceModel, CallbackContext> tagResource(
-        final AmazonWebServicesClientProxy proxy,
-        final ProxyClient<DocDbElasticClient> serviceClient,
-        final ResourceModel resourceModel,
-        final ResourceHandlerRequest<ResourceModel> handlerRequest,
-        final CallbackContext callbackContext,
-        final Map<String, String> addedTags,
+    /**
+     * Applies the tag changes of an update. Requests are split into chunks of {@link #MAX_TAGS_PER_REQUEST}. With the
+     * async client all chunks are sent at once, since added and removed keys never overlap; only when the added tags
+     * could push the resource over {@link #MAX_TAGS_PER_RESOURCE} before the removals land are removals sent first.
+     * Without the async client the chunks are sent one by one, removals first, before this method returns.
+     *
+     * @param asyncProxyClient async client, or null to send the requests serially
+     * @param resourceArn ARN of the cluster
+     * @param changeSet changes holding the tags to add and remove
+     * @param previousTagCount number of tags on the resource before the update
+     *
+     * @return future completing once every request has been answered; join it with {@link ExceptionTranslator#join}
+     */
+    protected static CompletableFuture<Void> syncTags(
+        final ProxyClient<DocDbElasticClient> proxyClient,
+        final ProxyClient<DocDbElasticAsyncClient> asyncProxyClient,
+        final String resourceArn,
+        final ModelChangeSet changeSet,
+        final int previousTagCount,
         final Logger logger) {
 
-        logger.log(String.format("[UPDATE][IN PROGRESS] Going to add tags for ... resource: %s",
-            resourceModel.getClusterArn()));
-
-        return proxy.initiate("AWS-DocDBElastic-DBCluster::TagOps", serviceClient, resourceModel, callbackContext)
-            .translateToServiceRequest(model ->
-                RequestTranslator.translateToTagRequest(model, addedTags))
-            .makeServiceCall((request, client) -> {
-                try {
-                    return proxy.injectCredentialsAndInvokeV2(request, client.client()::tagResource);
-                } catch (AwsServiceException e) {
-                    throw new CfnGeneralServiceException(ResourceModel.TYPE_NAME, e);
-                }
-            })
-            .progress();
-    }
+        final List<UntagResourceRequest> untagRequests =
+            RequestTranslator.translateToUntagRequests(resourceArn, changeSet.getTagsToRemove());
+        final List<TagResourceRequest> tagRequests =
+            RequestTranslator.translateToTagRequests(resourceArn, changeSet.getTagsToAdd());
 
-    protected static ProgressEvent<ResourceModel, CallbackContext> untagResource(
-        final AmazonWebServicesClientProxy proxy,
-        final ProxyClient<DocDbElasticClient> serviceClient,
-        final ResourceModel resourceModel,
-        final ResourceHandlerRequest<ResourceModel> handlerRequest,
-        final CallbackContext callbackContext,
-        final Set<String> removedTags,
-        final Logger logger) {
+        StructuredLogger.of(logger).info("[UPDATE][IN PROGRESS] Going to send %d tag and %d untag requests for resource: %s",
+            tagRequests.size(), untagRequests.size(), resourceArn);
 
-        logger.log(String.format("[UPDATE][IN PROGRESS] Going to remove tags for ... resource: %s",
-            resourceModel.getClusterArn()));
-
-        return proxy.initiate("AWS-DocDBElastic-DBCluster::TagOps", serviceClient, resourceModel, callbackContext)
-            .translateToServiceRequest(model ->
-                RequestTranslator.translateToUntagRequest(model, removedTags))
-            .makeServiceCall((request, client) -> {
-                try {
-                    return proxy.injectCredentialsAndInvokeV2(request, client.client()::untagResource);
-                } catch (AwsServiceException e) {
-                    throw new CfnGeneralServiceException(ResourceModel.TYPE_NAME, e);
+        if (asyncProxyClient == null) {
+            try {
+                for (final UntagResourceRequest request : untagRequests) {
+                    proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::untagResource);
+                }
+                for (final TagResourceRequest request : tagRequests) {
+                    proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::tagResource);
                 }
-            })
-            .progress();
+            } catch (AwsServiceException e) {
+                throw ExceptionTranslator.translateFromServiceException(e);
+            }
+            return CompletableFuture.completedFuture(null);
+        }
+
+        final CompletableFuture<Void> untagged = CompletableFuture.allOf(untagRequests.stream()
+            .map(request -> asyncProxyClient.injectCredentialsAndInvokeV2Async(request, asyncProxyClient.client()::untagResource))
+            .toArray(CompletableFuture[]::new));
+        if (previousTagCount + changeSet.getTagsToAdd().size() > MAX_TAGS_PER_RESOURCE) {
+            return untagged.thenCompose(ignored -> tagAll(asyncProxyClient, tagRequests));
+        }
+        return CompletableFuture.allOf(untagged, tagAll(asyncProxyClient, tagRequests));
     }
 
+    private static CompletableFuture<Void> tagAll(final ProxyClient<DocDbElasticAsyncClient> asyncProxyClient,
+                                                  final List<TagResourceRequest> tagRequests) {
+        return CompletableFuture.allOf(tagRequests.stream()
+            .map(request -> asyncProxyClient.injectCredentialsAndInvokeV2Async(request, asyncProxyClient.client()::tagResource))
+            .toArray(CompletableFuture[]::new));
+    }
 }
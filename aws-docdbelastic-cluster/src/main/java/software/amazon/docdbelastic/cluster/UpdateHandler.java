@@ -3,25 +3,34 @@ package software.amazon.docdbelastic.cluster;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.awscore.AwsResponse;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.docdbelastic.DocDbElasticAsyncClient;
 import software.amazon.awssdk.services.docdbelastic.DocDbElasticClient;
 import software.amazon.awssdk.services.docdbelastic.model.Cluster;
 import software.amazon.awssdk.services.docdbelastic.model.ConflictException;
 import software.amazon.awssdk.services.docdbelastic.model.UpdateClusterRequest;
+import software.amazon.awssdk.services.docdbelastic.model.UpdateClusterResponse;
+import software.amazon.awssdk.services.docdbelastic.model.Status;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
 import software.amazon.cloudformation.exceptions.ResourceNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.cloudformation.proxy.delay.Constant;
 
 public class UpdateHandler extends BaseHandlerStd {
-    protected static final Constant UPDATE_BACKOFF_STRATEGY = Constant.of().timeout(Duration.ofMinutes(60L)).delay(Duration.ofSeconds(30L)).build();
+    protected static final StabilizationDelay UPDATE_BACKOFF_STRATEGY = StabilizationDelay.builder()
+            .timeout(Duration.ofMinutes(60L))
+            .initialDelay(Duration.ofSeconds(2L))
+            .maxDelay(Duration.ofSeconds(30L))
+            .statusDelay(Status.UPDATING, Duration.ofSeconds(15L))
+            .build();
 
+    protected static final LocalPolling UPDATE_LOCAL_POLLING = LocalPolling.builder().build();
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -31,64 +40,108 @@ public class UpdateHandler extends BaseHandlerStd {
             ProxyClient<DocDbElasticClient> proxyClient,
             final Logger logger) {
 
-        final Map<String, String> previousTags = TagHelper.getPreviousTagsForUpdate(request);
-        final Map<String, String> desiredTags = TagHelper.getDesiredTagsForUpdate(request);
+        return handleRequest(proxy, request, callbackContext, proxyClient, null, logger);
+    }
 
+    /**
+     * Tag changes are sent concurrently through the async client when one is given, so a tag-only update takes a
+     * single round trip.
+     */
+    @Override
+    protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            ProxyClient<DocDbElasticClient> proxyClient,
+            ProxyClient<DocDbElasticAsyncClient> asyncProxyClient,
+            final Logger logger) {
+
+        final StructuredLogger structuredLogger = StructuredLogger.of(logger);
+        final String caller = CallerIdentity.of(proxy);
         if (request == null) {
-            logger.log("Request is null. Throwing exception.");
+            structuredLogger.error("Request is null. Throwing exception.");
             throw new CfnGeneralServiceException(ResourceModel.TYPE_NAME);
         }
 
-        UpdateClusterRequest updateClusterRequest =
-            RequestTranslator.translateToUpdateClusterRequest(request.getPreviousResourceState(), request.getDesiredResourceState());
-
-        return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-                .then(progress -> {
-                        if (updateClusterRequest == null) {
-                            return ProgressEvent.progress(progress.getResourceModel(), callbackContext);
-                        }
-                        return proxy.initiate(CALL_GRAPH_PREFIX + "Update", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                                .translateToServiceRequest(model -> updateClusterRequest)
-                                .backoffDelay(UPDATE_BACKOFF_STRATEGY)
-                                .makeServiceCall((awsRequest, client) -> {
-                                    AwsResponse awsResponse = null;
-                                    Cluster clusterStateSoFar = callbackContext.getCluster();
-
-                                    if (clusterStateSoFar == null) {
-                                        try {
-                                            awsResponse = client.injectCredentialsAndInvokeV2(awsRequest,
-                                                    client.client()::updateCluster);
-                                        } catch (AwsServiceException e) {
-                                            throw ExceptionTranslator.translateFromServiceException(e);
+        final Map<String, String> previousTags = TagHelper.getPreviousTagsForUpdate(request);
+        final Map<String, String> desiredTags = TagHelper.getDesiredTagsForUpdate(request);
+        final ModelChangeSet changeSet = ModelChangeSet.between(request.getPreviousResourceState(), request.getDesiredResourceState(),
+                previousTags, desiredTags);
+        structuredLogger.info("%s planned calls: %s", ResourceModel.TYPE_NAME, changeSet.plannedCalls());
+
+        UpdateClusterRequest updateClusterRequest = RequestTranslator.translateToUpdateClusterRequest(changeSet);
+
+        // Tagging does not need an ACTIVE cluster, so tags are sent first and answered while the cluster stabilizes
+        final CompletableFuture<Void> pendingTags = changeSet.hasTagChanges() && !callbackContext.isTagsSynced()
+                ? TagHelper.syncTags(forCallGraph(proxyClient, CALL_GRAPH_PREFIX + "TagSync"),
+                                     forCallGraph(asyncProxyClient, CALL_GRAPH_PREFIX + "TagSync"),
+                                     request.getDesiredResourceState().getClusterArn(),
+                                     changeSet, previousTags.size(), logger)
+                : CompletableFuture.completedFuture(null);
+
+        final MutationGate gate = new MutationGate(proxyClient, UPDATE_BACKOFF_STRATEGY.forContext(callbackContext),
+                                                   UPDATE_LOCAL_POLLING, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> updated;
+        try {
+            updated = ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
+                    .then(progress -> updateClusterRequest != null && callbackContext.getCluster() == null
+                            ? gate.awaitMutable(progress, cluster -> progress)
+                            : progress)
+                    .then(progress -> {
+                            if (updateClusterRequest == null) {
+                                return ProgressEvent.progress(progress.getResourceModel(), callbackContext);
+                            }
+                            return gate.retryConflicts(progress, () -> proxy.initiate(CALL_GRAPH_PREFIX + "Update", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                                    .translateToServiceRequest(model -> updateClusterRequest)
+                                    .backoffDelay(UPDATE_BACKOFF_STRATEGY.forContext(progress.getCallbackContext()))
+                                    .makeServiceCall((awsRequest, client) -> {
+                                        AwsResponse awsResponse = null;
+                                        Cluster clusterStateSoFar = callbackContext.getCluster();
+
+                                        if (clusterStateSoFar == null) {
+                                            try {
+                                                final UpdateClusterResponse response = client.injectCredentialsAndInvokeV2(awsRequest,
+                                                        client.client()::updateCluster);
+                                                callbackContext.setCluster(response.cluster());
+                                                awsResponse = response;
+                                            } catch (ConflictException e) {
+                                                throw new CfnResourceConflictException(e);
+                                            } catch (AwsServiceException e) {
+                                                throw ExceptionTranslator.translateFromServiceException(e);
+                                            }
+
+                                            structuredLogger.info("%s update request successfully sent.", ResourceModel.TYPE_NAME);
+                                        } else {
+                                            structuredLogger.sampled("state", clusterStateSoFar.status(), "%s state is: %s",
+                                                    ResourceModel.TYPE_NAME, clusterStateSoFar.statusAsString());
                                         }
 
-                                        logger.log(String.format("%s update request successfully sent.", ResourceModel.TYPE_NAME));
-                                    } else {
-                                        logger.log(String.format("%s state is: %s", ResourceModel.TYPE_NAME, clusterStateSoFar.statusAsString()));
-                                    }
-
-                                    return awsResponse;
-                                })
-                                .stabilize((awsRequest, awsResponse, client, model, context) ->
-                                        new ResourceStabilizer(client, logger).stabilizeUpdate(model, context))
-                                .progress();
-                })
-                .then(progress -> {
-                    final Map<String, String> tagsToAdd = TagHelper.generateTagsToAdd(previousTags, desiredTags);
-                    if (tagsToAdd.isEmpty()) {
-                        return ProgressEvent.progress(progress.getResourceModel(), callbackContext);
-                    }
-                    return TagHelper.tagResource(proxy, proxyClient, request.getDesiredResourceState(), request,
-                                                    callbackContext, tagsToAdd, logger);
-                })
-                .then(progress -> {
-                    Set<String> tagsToRemove = TagHelper.generateTagsToRemove(previousTags, desiredTags);
-                    if (tagsToRemove.isEmpty()) {
-                        return ProgressEvent.progress(progress.getResourceModel(), callbackContext);
-                    }
-                    return TagHelper.untagResource(proxy, proxyClient, request.getDesiredResourceState(), request,
-                                                    callbackContext, tagsToRemove, logger);
-                })
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                                        return awsResponse;
+                                    })
+                                    .stabilize((awsRequest, awsResponse, client, model, context) ->
+                                            new ResourceStabilizer(client, logger, UPDATE_LOCAL_POLLING, caller)
+                                                    .stabilizeUpdate(model, context))
+                                    .progress());
+                    });
+        } catch (RuntimeException e) {
+            // the tag calls must not outlive the invocation, and their failure is reported along with the update's
+            try {
+                awaitTags(pendingTags, callbackContext);
+            } catch (RuntimeException tagFailure) {
+                structuredLogger.error("%s tags could not be updated: %s", ResourceModel.TYPE_NAME, tagFailure.getMessage());
+                e.addSuppressed(tagFailure);
+            }
+            throw e;
+        }
+        awaitTags(pendingTags, callbackContext);
+
+        return updated
+                .then(progress -> readFromStabilizedCluster(proxy, request, callbackContext, proxyClient,
+                                                            changeSet.hasTagChanges() ? null : desiredTags, logger));
+    }
+
+    private static void awaitTags(final CompletableFuture<Void> pendingTags, final CallbackContext callbackContext) {
+        ExceptionTranslator.join(pendingTags);
+        callbackContext.setTagsSynced(true);
     }
 }
@@ -11,6 +11,7 @@ import software.amazon.awssdk.awscore.AwsResponse;
 import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.services.docdbelastic.DocDbElasticAsyncClient;
 import software.amazon.awssdk.services.docdbelastic.DocDbElasticClient;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Credentials;
@@ -23,6 +24,7 @@ public class AbstractTestBase {
     protected static final boolean ENABLED;
     protected static final int PROXY_WAIT_TIME_SECONDS;
     protected static final String CLUSTER_NAME;
+    protected static final String CLUSTER_ARN;
     protected static final String ADMIN_USER_PASSWORD;
     protected static final String AUTH_TYPE;
     protected static final Set<Tag> TAGS;
@@ -34,6 +36,7 @@ public class AbstractTestBase {
         PROXY_WAIT_TIME_SECONDS = 30;
 
         CLUSTER_NAME = "TestClusterName";
+        CLUSTER_ARN = "arn:aws:docdb-elastic:us-east-1:123456789012:cluster/TestClusterId";
         ADMIN_USER_PASSWORD = "TestAdminUserPassword";
         AUTH_TYPE = "PLAIN_TEXT";
 
@@ -98,4 +101,58 @@ public class AbstractTestBase {
             }
         };
     }
+
+    static ProxyClient<DocDbElasticAsyncClient> MOCK_ASYNC_PROXY(
+            AmazonWebServicesClientProxy proxy,
+            DocDbElasticAsyncClient sdkClient) {
+
+        return new ProxyClient<DocDbElasticAsyncClient>() {
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT
+            injectCredentialsAndInvokeV2(RequestT request, Function<RequestT, ResponseT> requestFunction) {
+
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse>
+            CompletableFuture<ResponseT>
+            injectCredentialsAndInvokeV2Async(RequestT request,
+                                              Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+
+                return proxy.injectCredentialsAndInvokeV2Async(request, requestFunction);
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>>
+            IterableT
+            injectCredentialsAndInvokeIterableV2(RequestT request, Function<RequestT, IterableT> requestFunction) {
+
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT>
+            injectCredentialsAndInvokeV2InputStream(RequestT requestT,
+                                                    Function<RequestT, ResponseInputStream<ResponseT>> function) {
+
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT>
+            injectCredentialsAndInvokeV2Bytes(RequestT requestT,
+                                              Function<RequestT, ResponseBytes<ResponseT>> function) {
+
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public DocDbElasticAsyncClient client() {
+
+                return sdkClient;
+            }
+        };
+    }
 }
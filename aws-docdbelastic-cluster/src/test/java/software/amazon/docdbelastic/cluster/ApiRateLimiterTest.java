@@ -0,0 +1,126 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.docdbelastic.DocDbElasticClient;
+import software.amazon.awssdk.services.docdbelastic.model.CreateClusterRequest;
+import software.amazon.awssdk.services.docdbelastic.model.GetClusterRequest;
+import software.amazon.awssdk.services.docdbelastic.model.ThrottlingException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class ApiRateLimiterTest extends AbstractTestBase {
+    private static final long SECOND = Duration.ofSeconds(1L).toNanos();
+    private static final String SCOPE = "123456789012/us-east-1";
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private ApiRateLimiter limiter(final RateLimiterOptions.RateLimiterOptionsBuilder options) {
+        return new ApiRateLimiter(options.build(), clock::get);
+    }
+
+    @Test
+    public void reserve_BurstThenSpacedByRate() {
+        final ApiRateLimiter limiter = limiter(RateLimiterOptions.builder().defaultRate(2.0).burst(2));
+
+        assertThat(limiter.reserve(SCOPE, "GetCluster")).isZero();
+        assertThat(limiter.reserve(SCOPE, "GetCluster")).isZero();
+        assertThat(limiter.reserve(SCOPE, "GetCluster")).isEqualTo(SECOND / 2);
+        assertThat(limiter.reserve(SCOPE, "GetCluster")).isEqualTo(SECOND);
+
+        clock.addAndGet(SECOND);
+        assertThat(limiter.reserve(SCOPE, "GetCluster")).isEqualTo(SECOND / 2);
+    }
+
+    @Test
+    public void reserve_BucketsArePerApi() {
+        final ApiRateLimiter limiter = limiter(RateLimiterOptions.builder()
+                .defaultRate(1.0)
+                .apiRate("ListClusters", 4.0)
+                .burst(1));
+
+        assertThat(limiter.reserve(SCOPE, "GetCluster")).isZero();
+        assertThat(limiter.reserve(SCOPE, "ListClusters")).isZero();
+        assertThat(limiter.reserve(SCOPE, "GetCluster")).isEqualTo(SECOND);
+        assertThat(limiter.reserve(SCOPE, "ListClusters")).isEqualTo(SECOND / 4);
+    }
+
+    @Test
+    public void onThrottled_LeavesOtherAccountsAndRegionsAlone() {
+        final ApiRateLimiter limiter = limiter(RateLimiterOptions.builder()
+                .defaultRate(8.0)
+                .minRate(1.0)
+                .decreaseFactor(0.5)
+                .burst(1));
+
+        limiter.onThrottled(SCOPE, "GetCluster");
+
+        assertThat(limiter.currentRate(SCOPE, "GetCluster")).isEqualTo(4.0);
+        assertThat(limiter.currentRate("210987654321/us-east-1", "GetCluster")).isEqualTo(8.0);
+        assertThat(limiter.currentRate("123456789012/eu-west-1", "GetCluster")).isEqualTo(8.0);
+        assertThat(limiter.reserve("210987654321/us-east-1", "GetCluster")).isZero();
+        assertThat(limiter.reserve("210987654321/us-east-1", "GetCluster")).isEqualTo(SECOND / 8);
+    }
+
+    @Test
+    public void reserve_BeyondMaxWaitProceedsWithoutToken() {
+        final ApiRateLimiter limiter = limiter(RateLimiterOptions.builder()
+                .defaultRate(1.0)
+                .burst(1)
+                .maxWait(Duration.ofMillis(1500L)));
+
+        assertThat(limiter.reserve(SCOPE, "GetCluster")).isZero();
+        assertThat(limiter.reserve(SCOPE, "GetCluster")).isEqualTo(SECOND);
+        assertThat(limiter.reserve(SCOPE, "GetCluster")).isZero();
+
+        clock.addAndGet(SECOND);
+        assertThat(limiter.reserve(SCOPE, "GetCluster")).isEqualTo(SECOND);
+    }
+
+    @Test
+    public void onThrottled_DecreasesThenRecoversGradually() {
+        final ApiRateLimiter limiter = limiter(RateLimiterOptions.builder()
+                .defaultRate(8.0)
+                .minRate(1.0)
+                .decreaseFactor(0.5)
+                .recoverySteps(7));
+
+        limiter.onThrottled(SCOPE, "GetCluster");
+        assertThat(limiter.currentRate(SCOPE, "GetCluster")).isEqualTo(4.0);
+        assertThat(limiter.reserve(SCOPE, "GetCluster")).isEqualTo(SECOND / 4);
+
+        limiter.onThrottled(SCOPE, "GetCluster");
+        limiter.onThrottled(SCOPE, "GetCluster");
+        limiter.onThrottled(SCOPE, "GetCluster");
+        assertThat(limiter.currentRate(SCOPE, "GetCluster")).isEqualTo(1.0);
+
+        limiter.onSuccess(SCOPE, "GetCluster");
+        assertThat(limiter.currentRate(SCOPE, "GetCluster")).isEqualTo(2.0);
+        for (int i = 0; i < 10; i++) {
+            limiter.onSuccess(SCOPE, "GetCluster");
+        }
+        assertThat(limiter.currentRate(SCOPE, "GetCluster")).isEqualTo(8.0);
+    }
+
+    @Test
+    public void limit_ReportsThrottledCalls() {
+        final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(LOGGER, MOCK_CREDENTIALS,
+                () -> Duration.ofSeconds(PROXY_WAIT_TIME_SECONDS).toMillis());
+        final DocDbElasticSimulator simulator = DocDbElasticSimulator.builder().throttleRate(1.0).build();
+        final ApiRateLimiter limiter = limiter(RateLimiterOptions.builder().defaultRate(10.0).minRate(1.0));
+        final ProxyClient<DocDbElasticClient> proxyClient = limiter.limit(MOCK_PROXY(proxy, simulator), SCOPE);
+
+        assertThatExceptionOfType(ThrottlingException.class).isThrownBy(() -> proxyClient.injectCredentialsAndInvokeV2(
+                GetClusterRequest.builder().clusterArn(CLUSTER_ARN).build(), proxyClient.client()::getCluster));
+        assertThatExceptionOfType(ThrottlingException.class).isThrownBy(() -> proxyClient.injectCredentialsAndInvokeV2(
+                CreateClusterRequest.builder().clusterName(CLUSTER_NAME).build(), proxyClient.client()::createCluster));
+
+        assertThat(limiter.currentRate(SCOPE, "GetCluster")).isEqualTo(5.0);
+        assertThat(limiter.currentRate(SCOPE, "CreateCluster")).isEqualTo(5.0);
+        assertThat(limiter.currentRate(SCOPE, "ListClusters")).isEqualTo(10.0);
+    }
+}
@@ -0,0 +1,26 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.net.URI;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.regions.Region;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClientBuilderTest {
+
+    @Test
+    public void getClient_ReusedForSameRegionAndEndpoint() {
+        assertThat(ClientBuilder.getClient(Region.US_EAST_1, null))
+                .isSameAs(ClientBuilder.getClient(Region.US_EAST_1, null));
+        assertThat(ClientBuilder.getAsyncClient(Region.US_EAST_1, null))
+                .isSameAs(ClientBuilder.getAsyncClient(Region.US_EAST_1, null));
+    }
+
+    @Test
+    public void getClient_SeparateForOtherRegionOrEndpoint() {
+        assertThat(ClientBuilder.getClient(Region.US_EAST_1, null))
+                .isNotSameAs(ClientBuilder.getClient(Region.US_WEST_2, null));
+        assertThat(ClientBuilder.getClient(Region.US_EAST_1, null))
+                .isNotSameAs(ClientBuilder.getClient(Region.US_EAST_1, URI.create("https://localhost:8443")));
+    }
+}
@@ -0,0 +1,90 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.docdbelastic.DocDbElasticAsyncClient;
+import software.amazon.awssdk.services.docdbelastic.model.CreateClusterRequest;
+import software.amazon.awssdk.services.docdbelastic.model.GetClusterRequest;
+import software.amazon.awssdk.services.docdbelastic.model.GetClusterResponse;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ClusterHydratorTest extends AbstractTestBase {
+    private DocDbElasticSimulator simulator;
+    private AmazonWebServicesClientProxy proxy;
+
+    @BeforeEach
+    public void setup() {
+        proxy = new AmazonWebServicesClientProxy(LOGGER, MOCK_CREDENTIALS,
+                () -> Duration.ofSeconds(PROXY_WAIT_TIME_SECONDS).toMillis());
+        simulator = DocDbElasticSimulator.builder().createDuration(Duration.ZERO).build();
+    }
+
+    private String createCluster(final String name) {
+        return simulator.createCluster(CreateClusterRequest.builder()
+                .clusterName(name)
+                .adminUserName("admin")
+                .authType(AUTH_TYPE)
+                .build()).cluster().clusterArn();
+    }
+
+    @Test
+    public void readAll_ReportsEachArnOnItsOwn() {
+        final String first = createCluster("first");
+        final String second = createCluster("second");
+        final String missing = CLUSTER_ARN;
+        final ClusterHydrator hydrator = new ClusterHydrator(MOCK_ASYNC_PROXY(proxy, simulator.async()),
+                HydrationOptions.builder().parallelism(2).build(), LOGGER);
+
+        final Map<String, BulkReadResult> results = hydrator.readAll(Arrays.asList(second, missing, first, second));
+
+        assertThat(results.keySet()).containsExactly(second, missing, first);
+        assertThat(results.get(first).isSuccess()).isTrue();
+        assertThat(results.get(first).getModel().getClusterName()).isEqualTo("first");
+        assertThat(results.get(second).getModel().getClusterName()).isEqualTo("second");
+        assertThat(results.get(missing).isSuccess()).isFalse();
+        assertThat(results.get(missing).getModel()).isNull();
+        assertThat(results.get(missing).getError()).isInstanceOf(CfnNotFoundException.class);
+        assertThat(simulator.callCount("GetCluster")).isEqualTo(3);
+    }
+
+    @Test
+    public void readAll_TimedOutCallIsCancelledAndFreesItsSlot() {
+        final String hung = CLUSTER_ARN;
+        final String queued = createCluster("queued");
+        final CompletableFuture<GetClusterResponse> hungCall = new CompletableFuture<>();
+        final DocDbElasticAsyncClient sdkClient = mock(DocDbElasticAsyncClient.class);
+        when(sdkClient.getCluster(any(GetClusterRequest.class))).thenAnswer(invocation -> {
+            final GetClusterRequest request = invocation.getArgument(0);
+            return hung.equals(request.clusterArn()) ? hungCall : simulator.async().getCluster(request);
+        });
+        final ClusterHydrator hydrator = new ClusterHydrator(MOCK_ASYNC_PROXY(proxy, sdkClient),
+                HydrationOptions.builder().parallelism(1).callTimeout(Duration.ofMillis(200L)).includeTags(false).build(),
+                LOGGER);
+
+        final Map<String, BulkReadResult> results = hydrator.readAll(Arrays.asList(hung, queued));
+
+        assertThat(results.get(hung).isSuccess()).isFalse();
+        assertThat(hungCall.isCancelled()).isTrue();
+        // the cluster queued behind the hung call was read once its slot was freed
+        assertThat(results.get(queued).isSuccess()).isTrue();
+    }
+
+    @Test
+    public void fromEnvironment_HydratesListsOnlyWhenTurnedOn() {
+        assertThat(HydrationOptions.fromEnvironment(name -> null)).isNull();
+        assertThat(HydrationOptions.fromEnvironment(name -> "false")).isNull();
+        assertThat(HydrationOptions.fromEnvironment(
+                Collections.singletonMap(HydrationOptions.ENVIRONMENT_VARIABLE, "true")::get)).isNotNull();
+    }
+}
@@ -0,0 +1,151 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.docdbelastic.DocDbElasticClient;
+import software.amazon.awssdk.services.docdbelastic.model.Cluster;
+import software.amazon.awssdk.services.docdbelastic.model.CreateClusterRequest;
+import software.amazon.awssdk.services.docdbelastic.model.ListClustersRequest;
+import software.amazon.awssdk.services.docdbelastic.model.ListClustersResponse;
+import software.amazon.awssdk.services.docdbelastic.model.Status;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ClusterInventoryTest extends AbstractTestBase {
+    private static final String SCOPE = "123456789012/us-east-1";
+
+    private final AtomicLong clockMillis = new AtomicLong(1_000L);
+    private DocDbElasticSimulator simulator;
+    private AmazonWebServicesClientProxy proxy;
+    private ProxyClient<DocDbElasticClient> proxyClient;
+    private ClusterInventory inventory;
+    private final List<String> arnsInListOrder = new ArrayList<>();
+
+    @BeforeEach
+    public void setup() {
+        proxy = new AmazonWebServicesClientProxy(LOGGER, MOCK_CREDENTIALS,
+                () -> Duration.ofSeconds(PROXY_WAIT_TIME_SECONDS).toMillis());
+        simulator = DocDbElasticSimulator.builder().createDuration(Duration.ofMinutes(10L)).maxPageSize(2).clock(clockMillis::get).build();
+        proxyClient = MOCK_PROXY(proxy, simulator);
+        inventory = new ClusterInventory(InventoryOptions.builder().ttl(Duration.ofSeconds(60L)).build(),
+                                         () -> clockMillis.get() * 1_000_000L);
+        for (int i = 0; i < 5; i++) {
+            arnsInListOrder.add(createCluster("cluster-" + i).clusterArn());
+        }
+        // ListClusters pages are ordered by ARN
+        arnsInListOrder.sort(null);
+    }
+
+    private Cluster createCluster(final String name) {
+        return simulator.createCluster(CreateClusterRequest.builder()
+                .clusterName(name)
+                .adminUserName("admin")
+                .authType(AUTH_TYPE)
+                .build()).cluster();
+    }
+
+    private String nameOf(final String arn) {
+        return simulator.getCluster(RequestTranslator.translateToReadRequest(arn)).cluster().clusterName();
+    }
+
+    @Test
+    public void findArn_ListsOnlyAsFarAsNeededAndCarriesOnFromThere() {
+        final String first = arnsInListOrder.get(0);
+        final String last = arnsInListOrder.get(4);
+
+        assertThat(inventory.findArn(proxyClient, SCOPE, nameOf(first))).isEqualTo(first);
+        assertThat(simulator.callCount("ListClusters")).isEqualTo(1);
+
+        assertThat(inventory.findArn(proxyClient, SCOPE, nameOf(first))).isEqualTo(first);
+        assertThat(simulator.callCount("ListClusters")).isEqualTo(1);
+
+        assertThat(inventory.findStatus(proxyClient, SCOPE, last)).isEqualTo(Status.CREATING);
+        assertThat(simulator.callCount("ListClusters")).isEqualTo(3);
+        assertThat(inventory.size(SCOPE)).isEqualTo(5);
+
+        // other accounts and regions are listed separately
+        inventory.findArn(proxyClient, "210987654321/us-east-1", nameOf(first));
+        assertThat(simulator.callCount("ListClusters")).isEqualTo(4);
+    }
+
+    @Test
+    public void findArn_ListsAgainAfterTtl() {
+        final String first = arnsInListOrder.get(0);
+        inventory.findArn(proxyClient, SCOPE, nameOf(first));
+
+        clockMillis.addAndGet(Duration.ofSeconds(60L).toMillis());
+
+        assertThat(inventory.findArn(proxyClient, SCOPE, nameOf(first))).isEqualTo(first);
+        assertThat(simulator.callCount("ListClusters")).isEqualTo(2);
+    }
+
+    @Test
+    public void findArn_MissInCompleteListingListsAgain() {
+        assertThat(inventory.findArn(proxyClient, SCOPE, "unknown")).isNull();
+        assertThat(simulator.callCount("ListClusters")).isEqualTo(3);
+
+        // created by someone else after the listing
+        final Cluster created = createCluster("late");
+
+        assertThat(inventory.findArn(proxyClient, SCOPE, "late")).isEqualTo(created.clusterArn());
+        assertThat(simulator.callCount("ListClusters")).isGreaterThan(3);
+    }
+
+    @Test
+    public void recordAndRemove_ApplyHandlerCreatesAndDeletes() {
+        inventory.findArn(proxyClient, SCOPE, "unknown");
+        final long listed = simulator.callCount("ListClusters");
+
+        final Cluster created = createCluster("mine");
+        inventory.record(SCOPE, created);
+        assertThat(inventory.findArn(proxyClient, SCOPE, "mine")).isEqualTo(created.clusterArn());
+        assertThat(simulator.callCount("ListClusters")).isEqualTo(listed);
+
+        inventory.remove(SCOPE, created.clusterArn());
+        assertThat(inventory.size(SCOPE)).isEqualTo(5);
+    }
+
+    @Test
+    public void findArn_ListingOneScopeDoesNotHoldUpAnother() throws Exception {
+        final CountDownLatch listing = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final DocDbElasticClient slowClient = mock(DocDbElasticClient.class);
+        when(slowClient.listClusters(any(ListClustersRequest.class))).thenAnswer(invocation -> {
+            listing.countDown();
+            release.await();
+            return ListClustersResponse.builder().build();
+        });
+        final ProxyClient<DocDbElasticClient> slowProxyClient = MOCK_PROXY(proxy, slowClient);
+        final String first = arnsInListOrder.get(0);
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<String> other = executor.submit(() ->
+                    inventory.findArn(slowProxyClient, "210987654321/us-east-1", "unknown"));
+            assertThat(listing.await(10L, TimeUnit.SECONDS)).isTrue();
+
+            // answered while the other account's ListClusters call is still in flight
+            assertThat(inventory.findArn(proxyClient, SCOPE, nameOf(first))).isEqualTo(first);
+
+            release.countDown();
+            assertThat(other.get(10L, TimeUnit.SECONDS)).isNull();
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+}
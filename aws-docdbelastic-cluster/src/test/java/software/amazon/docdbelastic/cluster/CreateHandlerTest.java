@@ -16,7 +16,6 @@ import software.amazon.awssdk.services.docdbelastic.model.CreateClusterRequest;
 import software.amazon.awssdk.services.docdbelastic.model.CreateClusterResponse;
 import software.amazon.awssdk.services.docdbelastic.model.GetClusterRequest;
 import software.amazon.awssdk.services.docdbelastic.model.GetClusterResponse;
-import software.amazon.awssdk.services.docdbelastic.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.docdbelastic.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.docdbelastic.model.Status;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
@@ -30,8 +29,8 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -56,6 +55,8 @@ public class CreateHandlerTest extends AbstractTestBase {
                         .toMillis());
         sdkClient = mock(DocDbElasticClient.class);
         proxyClient = MOCK_PROXY(proxy, sdkClient);
+        // clusters created by earlier tests share the account and region of these requests
+        ClusterInventory.configure(InventoryOptions.builder().build());
     }
 
     @Test
@@ -90,9 +91,6 @@ public class CreateHandlerTest extends AbstractTestBase {
                         )
                         .build();
 
-        final ListTagsForResourceResponse mockListTagsForResourceResponse =
-                ListTagsForResourceResponse.builder().tags(TAG_MAP).build();
-
         final GetClusterResponse mockGetClusterResponse =
                 GetClusterResponse.builder()
                         .cluster(Cluster.builder()
@@ -103,9 +101,6 @@ public class CreateHandlerTest extends AbstractTestBase {
                         )
                         .build();
 
-        when(proxyClient.client()
-                .listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(
-                mockListTagsForResourceResponse);
         when(proxyClient.client()
                 .createCluster(any(CreateClusterRequest.class))).thenReturn(
                 mockCreateClusterResponse);
@@ -128,9 +123,12 @@ public class CreateHandlerTest extends AbstractTestBase {
         // shouldn't need to call create more than once
         verify(sdkClient, times(1)).createCluster(any(CreateClusterRequest.class));
 
-        // at least once for stabilization, once for read operation on success
+        // once for stabilization, the final model is built from the stabilized cluster
         verify(sdkClient,
-                atLeast(2)).getCluster(any(GetClusterRequest.class));
+                times(1)).getCluster(any(GetClusterRequest.class));
+
+        // tags are known from the create request
+        verify(sdkClient, never()).listTagsForResource(any(ListTagsForResourceRequest.class));
     }
 
     @Test
@@ -177,13 +175,17 @@ public class CreateHandlerTest extends AbstractTestBase {
                 mockGetClusterResponse);
 
 
+        // no remaining time to wait in-process, so the first poll schedules a callback
+        proxy = new AmazonWebServicesClientProxy(LOGGER, MOCK_CREDENTIALS, () -> 0L);
+        proxyClient = MOCK_PROXY(proxy, sdkClient);
+
         final ProgressEvent<ResourceModel, CallbackContext> response =
                 handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, LOGGER);
         LOGGER.log(response.toString());
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
-        assertThat(response.getCallbackDelaySeconds()).isEqualTo(30);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(5);
         assertThat(response.getResourceModel()).isEqualTo(desiredOutputModel);
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
@@ -218,6 +220,48 @@ public class CreateHandlerTest extends AbstractTestBase {
                 handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, LOGGER));
     }
 
+    @Test
+    public void handleRequest_RetriedCreateResumesClusterOfItsClientToken() {
+        final DocDbElasticSimulator simulator = DocDbElasticSimulator.builder().createDuration(Duration.ZERO).build();
+        final ResourceHandlerRequest<ResourceModel> request = simulatedRequest("client-request-token");
+        // an earlier attempt created the cluster but its response never made it into the callback context
+        final String arn = simulator.createCluster(RequestTranslator.translateToCreateRequest(request.getDesiredResourceState(),
+                TAG_MAP, "client-request-token")).cluster().clusterArn();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new CreateHandler().handleRequest(proxy, request,
+                new CallbackContext(), MOCK_PROXY(proxy, simulator), LOGGER);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getClusterArn()).isEqualTo(arn);
+    }
+
+    @Test
+    public void handleRequest_ClusterOfOtherClientTokenWithSameSettingsAlreadyExists() {
+        final DocDbElasticSimulator simulator = DocDbElasticSimulator.builder().createDuration(Duration.ZERO).build();
+        final ResourceHandlerRequest<ResourceModel> request = simulatedRequest("client-request-token");
+        // another stack's cluster that happens to have the same name, settings and tags
+        simulator.createCluster(RequestTranslator.translateToCreateRequest(request.getDesiredResourceState(),
+                TAG_MAP, "other-client-request-token"));
+
+        assertThatExceptionOfType(ResourceAlreadyExistsException.class).isThrownBy(() ->
+                new CreateHandler().handleRequest(proxy, request, new CallbackContext(), MOCK_PROXY(proxy, simulator), LOGGER));
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> simulatedRequest(final String clientRequestToken) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .clusterName(CLUSTER_NAME)
+                        .adminUserName("admin")
+                        .adminUserPassword(ADMIN_USER_PASSWORD)
+                        .authType(AUTH_TYPE)
+                        .shardCapacity(2)
+                        .shardCount(2)
+                        .build())
+                .desiredResourceTags(TAG_MAP)
+                .clientRequestToken(clientRequestToken)
+                .build();
+    }
+
     @Test
     public void handleRequest_GeneralServiceError() {
 
@@ -11,6 +11,7 @@ import software.amazon.awssdk.services.docdbelastic.model.Cluster;
 import software.amazon.awssdk.services.docdbelastic.model.DeleteClusterRequest;
 import software.amazon.awssdk.services.docdbelastic.model.DeleteClusterResponse;
 import software.amazon.awssdk.services.docdbelastic.model.GetClusterRequest;
+import software.amazon.awssdk.services.docdbelastic.model.GetClusterResponse;
 import software.amazon.awssdk.services.docdbelastic.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.docdbelastic.model.Status;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
@@ -24,6 +25,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -66,6 +69,9 @@ public class DeleteHandlerTest extends AbstractTestBase {
 
         when(proxyClient.client()
                 .getCluster(any(GetClusterRequest.class)))
+                .thenReturn(GetClusterResponse.builder()
+                        .cluster(Cluster.builder().clusterName(CLUSTER_NAME).status(Status.ACTIVE).build())
+                        .build())
                 .thenThrow(ResourceNotFoundException.class);
         when(proxyClient.client()
                 .deleteCluster(any(DeleteClusterRequest.class)))
@@ -100,10 +106,33 @@ public class DeleteHandlerTest extends AbstractTestBase {
                 .build();
 
         when(proxyClient.client()
-                .deleteCluster(any(DeleteClusterRequest.class)))
+                .getCluster(any(GetClusterRequest.class)))
                 .thenThrow(software.amazon.awssdk.services.docdbelastic.model.ResourceNotFoundException.class);
 
         assertThatExceptionOfType(CfnNotFoundException.class).isThrownBy(() ->
                 handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, LOGGER));
+        verify(proxyClient.client(), never()).deleteCluster(any(DeleteClusterRequest.class));
+    }
+
+    @Test
+    public void handleRequest_AlreadyDeleting() {
+        final DeleteHandler handler = new DeleteHandler();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().clusterArn(CLUSTER_ARN).build())
+                .build();
+
+        when(proxyClient.client()
+                .getCluster(any(GetClusterRequest.class)))
+                .thenReturn(GetClusterResponse.builder()
+                        .cluster(Cluster.builder().clusterArn(CLUSTER_ARN).status(Status.DELETING).build())
+                        .build())
+                .thenThrow(ResourceNotFoundException.class);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, LOGGER);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxyClient.client(), never()).deleteCluster(any(DeleteClusterRequest.class));
     }
 }
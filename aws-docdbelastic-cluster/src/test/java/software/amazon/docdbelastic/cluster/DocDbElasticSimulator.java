@@ -0,0 +1,401 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.docdbelastic.DocDbElasticAsyncClient;
+import software.amazon.awssdk.services.docdbelastic.DocDbElasticClient;
+import software.amazon.awssdk.services.docdbelastic.model.Cluster;
+import software.amazon.awssdk.services.docdbelastic.model.ClusterInList;
+import software.amazon.awssdk.services.docdbelastic.model.ConflictException;
+import software.amazon.awssdk.services.docdbelastic.model.CreateClusterRequest;
+import software.amazon.awssdk.services.docdbelastic.model.CreateClusterResponse;
+import software.amazon.awssdk.services.docdbelastic.model.DeleteClusterRequest;
+import software.amazon.awssdk.services.docdbelastic.model.DeleteClusterResponse;
+import software.amazon.awssdk.services.docdbelastic.model.GetClusterRequest;
+import software.amazon.awssdk.services.docdbelastic.model.GetClusterResponse;
+import software.amazon.awssdk.services.docdbelastic.model.ListClustersRequest;
+import software.amazon.awssdk.services.docdbelastic.model.ListClustersResponse;
+import software.amazon.awssdk.services.docdbelastic.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.docdbelastic.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.docdbelastic.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.docdbelastic.model.ServiceQuotaExceededException;
+import software.amazon.awssdk.services.docdbelastic.model.Status;
+import software.amazon.awssdk.services.docdbelastic.model.TagResourceRequest;
+import software.amazon.awssdk.services.docdbelastic.model.TagResourceResponse;
+import software.amazon.awssdk.services.docdbelastic.model.ThrottlingException;
+import software.amazon.awssdk.services.docdbelastic.model.UntagResourceRequest;
+import software.amazon.awssdk.services.docdbelastic.model.UntagResourceResponse;
+import software.amazon.awssdk.services.docdbelastic.model.UpdateClusterRequest;
+import software.amazon.awssdk.services.docdbelastic.model.UpdateClusterResponse;
+import software.amazon.awssdk.services.docdbelastic.model.ValidationException;
+
+/**
+ * In-memory stand-in for the DocDB Elastic control plane. Clusters go through CREATING, ACTIVE, UPDATING and DELETING
+ * with configurable transition times, and the service errors the handlers translate are raised where the service
+ * raises them. Pass it to {@link AbstractTestBase#MOCK_PROXY} in place of a mock, and {@link #async()} to
+ * {@link AbstractTestBase#MOCK_ASYNC_PROXY}. All operations are thread-safe.
+ */
+public class DocDbElasticSimulator implements DocDbElasticClient {
+    static final String ARN_PREFIX = "arn:aws:docdb-elastic:us-east-1:123456789012:cluster/";
+    private static final AtomicLong SIMULATORS = new AtomicLong();
+
+    private final Duration createDuration;
+    private final Duration updateDuration;
+    private final Duration deleteDuration;
+    private final double throttleRate;
+    private final int maxClusters;
+    private final int maxPageSize;
+    private final int maxTagsPerResource;
+    private final LongSupplier clock;
+    private final Random random;
+    // cluster IDs are unique in the JVM and sort in creation order, so ListClusters pages are the same on every run
+    private final long simulatorId = SIMULATORS.incrementAndGet();
+    private long createdClusters;
+
+    private final NavigableMap<String, SimulatedCluster> clusters = new TreeMap<>();
+    private final Map<String, AtomicLong> calls = new ConcurrentHashMap<>();
+    private final AtomicLong throttled = new AtomicLong();
+
+    /**
+     * @param createDuration time a cluster stays CREATING, default 0
+     * @param updateDuration time a cluster stays UPDATING, default 0
+     * @param deleteDuration time a cluster stays DELETING before it is gone, default 0
+     * @param throttleRate fraction of calls rejected with a ThrottlingException, default 0
+     * @param maxClusters clusters allowed before CreateCluster fails with ServiceQuotaExceededException, default 100
+     * @param maxPageSize largest ListClusters page, default 100
+     * @param maxTagsPerResource tags allowed on a cluster, default 50
+     * @param clock current time in milliseconds, default the system clock
+     * @param seed seed for the throttling decisions, default 0
+     */
+    @lombok.Builder
+    private DocDbElasticSimulator(final Duration createDuration,
+                                  final Duration updateDuration,
+                                  final Duration deleteDuration,
+                                  final Double throttleRate,
+                                  final Integer maxClusters,
+                                  final Integer maxPageSize,
+                                  final Integer maxTagsPerResource,
+                                  final LongSupplier clock,
+                                  final Long seed) {
+        this.createDuration = createDuration == null ? Duration.ZERO : createDuration;
+        this.updateDuration = updateDuration == null ? Duration.ZERO : updateDuration;
+        this.deleteDuration = deleteDuration == null ? Duration.ZERO : deleteDuration;
+        this.throttleRate = throttleRate == null ? 0.0 : throttleRate;
+        this.maxClusters = maxClusters == null ? 100 : maxClusters;
+        this.maxPageSize = maxPageSize == null ? 100 : maxPageSize;
+        this.maxTagsPerResource = maxTagsPerResource == null ? TagHelper.MAX_TAGS_PER_RESOURCE : maxTagsPerResource;
+        this.clock = clock == null ? System::currentTimeMillis : clock;
+        this.random = new Random(seed == null ? 0L : seed);
+    }
+
+    private static final class SimulatedCluster {
+        private Cluster cluster;
+        private final Map<String, String> tags = new HashMap<>();
+        private String clientToken;
+        private long transitionAt;
+    }
+
+    @Override
+    public synchronized CreateClusterResponse createCluster(final CreateClusterRequest request) {
+        call("CreateCluster");
+        advanceAll();
+        if (request.clusterName() == null || request.adminUserName() == null || request.authType() == null) {
+            throw ValidationException.builder().statusCode(400)
+                    .message("ClusterName, AdminUserName and AuthType are required").build();
+        }
+        for (final SimulatedCluster existing : clusters.values()) {
+            if (existing.cluster.clusterName().equals(request.clusterName())) {
+                if (request.clientToken() != null && request.clientToken().equals(existing.clientToken)) {
+                    // a retry of the create that made this cluster
+                    return CreateClusterResponse.builder().cluster(existing.cluster).build();
+                }
+                throw ConflictException.builder().statusCode(409).resourceId(existing.cluster.clusterArn())
+                        .message("Cluster " + request.clusterName() + " already exists").build();
+            }
+        }
+        if (clusters.size() >= maxClusters) {
+            throw ServiceQuotaExceededException.builder().statusCode(402)
+                    .message("Cluster quota of " + maxClusters + " reached").build();
+        }
+
+        final String arn = ARN_PREFIX + new UUID(simulatorId, ++createdClusters);
+        final SimulatedCluster simulated = new SimulatedCluster();
+        simulated.cluster = Cluster.builder()
+                .clusterArn(arn)
+                .clusterName(request.clusterName())
+                .clusterEndpoint(request.clusterName() + ".docdb-elastic.amazonaws.com")
+                .createTime(Instant.ofEpochMilli(clock.getAsLong()).toString())
+                .adminUserName(request.adminUserName())
+                .authType(request.authType())
+                .shardCapacity(request.shardCapacity())
+                .shardCount(request.shardCount())
+                .subnetIds(request.subnetIds())
+                .vpcSecurityGroupIds(request.vpcSecurityGroupIds())
+                .preferredMaintenanceWindow(request.preferredMaintenanceWindow())
+                .kmsKeyId(request.kmsKeyId())
+                .status(Status.CREATING)
+                .build();
+        if (request.hasTags()) {
+            simulated.tags.putAll(request.tags());
+        }
+        simulated.clientToken = request.clientToken();
+        simulated.transitionAt = clock.getAsLong() + createDuration.toMillis();
+        clusters.put(arn, simulated);
+        return CreateClusterResponse.builder().cluster(simulated.cluster).build();
+    }
+
+    @Override
+    public synchronized GetClusterResponse getCluster(final GetClusterRequest request) {
+        call("GetCluster");
+        return GetClusterResponse.builder().cluster(find(request.clusterArn()).cluster).build();
+    }
+
+    @Override
+    public synchronized UpdateClusterResponse updateCluster(final UpdateClusterRequest request) {
+        call("UpdateCluster");
+        final SimulatedCluster simulated = findActive(request.clusterArn());
+        final Cluster.Builder updated = simulated.cluster.toBuilder().status(Status.UPDATING);
+        if (request.authType() != null) {
+            updated.authType(request.authType());
+        }
+        if (request.shardCapacity() != null) {
+            updated.shardCapacity(request.shardCapacity());
+        }
+        if (request.shardCount() != null) {
+            updated.shardCount(request.shardCount());
+        }
+        if (request.hasSubnetIds()) {
+            updated.subnetIds(request.subnetIds());
+        }
+        if (request.hasVpcSecurityGroupIds()) {
+            updated.vpcSecurityGroupIds(request.vpcSecurityGroupIds());
+        }
+        if (request.preferredMaintenanceWindow() != null) {
+            updated.preferredMaintenanceWindow(request.preferredMaintenanceWindow());
+        }
+        simulated.cluster = updated.build();
+        simulated.transitionAt = clock.getAsLong() + updateDuration.toMillis();
+        return UpdateClusterResponse.builder().cluster(simulated.cluster).build();
+    }
+
+    @Override
+    public synchronized DeleteClusterResponse deleteCluster(final DeleteClusterRequest request) {
+        call("DeleteCluster");
+        final SimulatedCluster simulated = findActive(request.clusterArn());
+        simulated.cluster = simulated.cluster.toBuilder().status(Status.DELETING).build();
+        simulated.transitionAt = clock.getAsLong() + deleteDuration.toMillis();
+        return DeleteClusterResponse.builder().cluster(simulated.cluster).build();
+    }
+
+    /**
+     * Pages are ordered by ARN and the next token is the last ARN of the page, so clusters created or deleted
+     * between pages do not shift the clusters not yet returned.
+     */
+    @Override
+    public synchronized ListClustersResponse listClusters(final ListClustersRequest request) {
+        call("ListClusters");
+        advanceAll();
+        final int pageSize = request.maxResults() == null ? maxPageSize : Math.min(request.maxResults(), maxPageSize);
+        final NavigableMap<String, SimulatedCluster> remaining =
+                request.nextToken() == null ? clusters : clusters.tailMap(request.nextToken(), false);
+
+        final List<ClusterInList> page = new ArrayList<>(pageSize);
+        String last = null;
+        for (final SimulatedCluster simulated : remaining.values()) {
+            if (page.size() == pageSize) {
+                break;
+            }
+            page.add(ClusterInList.builder()
+                    .clusterArn(simulated.cluster.clusterArn())
+                    .clusterName(simulated.cluster.clusterName())
+                    .status(simulated.cluster.status())
+                    .build());
+            last = simulated.cluster.clusterArn();
+        }
+        final boolean more = last != null && clusters.higherKey(last) != null;
+        return ListClustersResponse.builder().clusters(page).nextToken(more ? last : null).build();
+    }
+
+    @Override
+    public synchronized TagResourceResponse tagResource(final TagResourceRequest request) {
+        call("TagResource");
+        final SimulatedCluster simulated = find(request.resourceArn());
+        final Map<String, String> tags = new HashMap<>(simulated.tags);
+        tags.putAll(request.tags());
+        if (tags.size() > maxTagsPerResource) {
+            throw ServiceQuotaExceededException.builder().statusCode(402)
+                    .message("A cluster can have at most " + maxTagsPerResource + " tags").build();
+        }
+        simulated.tags.putAll(request.tags());
+        return TagResourceResponse.builder().build();
+    }
+
+    @Override
+    public synchronized UntagResourceResponse untagResource(final UntagResourceRequest request) {
+        call("UntagResource");
+        find(request.resourceArn()).tags.keySet().removeAll(request.tagKeys());
+        return UntagResourceResponse.builder().build();
+    }
+
+    @Override
+    public synchronized ListTagsForResourceResponse listTagsForResource(final ListTagsForResourceRequest request) {
+        call("ListTagsForResource");
+        return ListTagsForResourceResponse.builder().tags(new HashMap<>(find(request.resourceArn()).tags)).build();
+    }
+
+    /**
+     * Moves a cluster to any status, e.g. one of the failure states, until its next update or delete
+     */
+    synchronized void forceStatus(final String clusterArn, final Status status) {
+        final SimulatedCluster simulated = find(clusterArn);
+        simulated.cluster = simulated.cluster.toBuilder().status(status).build();
+    }
+
+    /**
+     * @return number of calls made to the API, throttled ones included
+     */
+    long callCount(final String api) {
+        final AtomicLong count = calls.get(api);
+        return count == null ? 0L : count.get();
+    }
+
+    long totalCallCount() {
+        return calls.values().stream().mapToLong(AtomicLong::get).sum();
+    }
+
+    long throttledCallCount() {
+        return throttled.get();
+    }
+
+    synchronized int clusterCount() {
+        advanceAll();
+        return clusters.size();
+    }
+
+    /**
+     * @return async view of this simulator for the handlers' async paths; calls complete on the calling thread
+     */
+    DocDbElasticAsyncClient async() {
+        final DocDbElasticSimulator sync = this;
+        return new DocDbElasticAsyncClient() {
+            @Override
+            public CompletableFuture<GetClusterResponse> getCluster(final GetClusterRequest request) {
+                return complete(() -> sync.getCluster(request));
+            }
+
+            @Override
+            public CompletableFuture<ListClustersResponse> listClusters(final ListClustersRequest request) {
+                return complete(() -> sync.listClusters(request));
+            }
+
+            @Override
+            public CompletableFuture<ListTagsForResourceResponse> listTagsForResource(final ListTagsForResourceRequest request) {
+                return complete(() -> sync.listTagsForResource(request));
+            }
+
+            @Override
+            public CompletableFuture<TagResourceResponse> tagResource(final TagResourceRequest request) {
+                return complete(() -> sync.tagResource(request));
+            }
+
+            @Override
+            public CompletableFuture<UntagResourceResponse> untagResource(final UntagResourceRequest request) {
+                return complete(() -> sync.untagResource(request));
+            }
+
+            @Override
+            public String serviceName() {
+                return sync.serviceName();
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private static <T> CompletableFuture<T> complete(final Supplier<T> call) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            future.complete(call.get());
+        } catch (AwsServiceException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private void call(final String api) {
+        calls.computeIfAbsent(api, key -> new AtomicLong()).incrementAndGet();
+        if (throttleRate > 0 && random.nextDouble() < throttleRate) {
+            throttled.incrementAndGet();
+            throw ThrottlingException.builder().statusCode(429).message("Rate exceeded").build();
+        }
+    }
+
+    private SimulatedCluster find(final String clusterArn) {
+        final SimulatedCluster simulated = clusterArn == null ? null : clusters.get(clusterArn);
+        if (simulated != null && !advance(simulated)) {
+            clusters.remove(clusterArn);
+        }
+        if (simulated == null || !clusters.containsKey(clusterArn)) {
+            throw ResourceNotFoundException.builder().statusCode(404).resourceId(clusterArn)
+                    .message("Cluster " + clusterArn + " not found").build();
+        }
+        return simulated;
+    }
+
+    private SimulatedCluster findActive(final String clusterArn) {
+        final SimulatedCluster simulated = find(clusterArn);
+        if (simulated.cluster.status() != Status.ACTIVE) {
+            throw ConflictException.builder().statusCode(409).resourceId(clusterArn)
+                    .message("Cluster " + clusterArn + " is " + simulated.cluster.statusAsString()).build();
+        }
+        return simulated;
+    }
+
+    private void advanceAll() {
+        clusters.values().removeIf(simulated -> !advance(simulated));
+    }
+
+    /**
+     * Completes a transition that is due
+     *
+     * @return false once the cluster is gone and must be removed
+     */
+    private boolean advance(final SimulatedCluster simulated) {
+        final Status status = simulated.cluster.status();
+        if (clock.getAsLong() < simulated.transitionAt
+                || status != Status.CREATING && status != Status.UPDATING && status != Status.DELETING) {
+            return true;
+        }
+        if (status == Status.DELETING) {
+            return false;
+        }
+        simulated.cluster = simulated.cluster.toBuilder().status(Status.ACTIVE).build();
+        return true;
+    }
+}
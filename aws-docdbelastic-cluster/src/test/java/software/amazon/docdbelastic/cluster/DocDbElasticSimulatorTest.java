@@ -0,0 +1,179 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.docdbelastic.DocDbElasticAsyncClient;
+import software.amazon.awssdk.services.docdbelastic.DocDbElasticClient;
+import software.amazon.awssdk.services.docdbelastic.model.ConflictException;
+import software.amazon.awssdk.services.docdbelastic.model.CreateClusterRequest;
+import software.amazon.awssdk.services.docdbelastic.model.GetClusterRequest;
+import software.amazon.awssdk.services.docdbelastic.model.ListClustersRequest;
+import software.amazon.awssdk.services.docdbelastic.model.ListClustersResponse;
+import software.amazon.awssdk.services.docdbelastic.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.docdbelastic.model.ServiceQuotaExceededException;
+import software.amazon.awssdk.services.docdbelastic.model.Status;
+import software.amazon.awssdk.services.docdbelastic.model.ThrottlingException;
+import software.amazon.awssdk.services.docdbelastic.model.UpdateClusterRequest;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class DocDbElasticSimulatorTest extends AbstractTestBase {
+
+    private AmazonWebServicesClientProxy proxy;
+
+    @BeforeEach
+    public void setup() {
+        proxy = new AmazonWebServicesClientProxy(LOGGER,
+                MOCK_CREDENTIALS,
+                () -> Duration.ofSeconds(PROXY_WAIT_TIME_SECONDS)
+                        .toMillis());
+    }
+
+    private static CreateClusterRequest createRequest(final String name) {
+        return CreateClusterRequest.builder()
+                .clusterName(name)
+                .adminUserName("admin")
+                .adminUserPassword(ADMIN_USER_PASSWORD)
+                .authType(AUTH_TYPE)
+                .shardCapacity(2)
+                .shardCount(1)
+                .build();
+    }
+
+    @Test
+    public void handlers_FullLifecycle() {
+        final DocDbElasticSimulator simulator = DocDbElasticSimulator.builder().build();
+        final ProxyClient<DocDbElasticClient> proxyClient = MOCK_PROXY(proxy, simulator);
+        final ProxyClient<DocDbElasticAsyncClient> asyncProxyClient = MOCK_ASYNC_PROXY(proxy, simulator.async());
+
+        final ResourceModel model = ResourceModel.builder()
+                .clusterName(CLUSTER_NAME)
+                .adminUserName("admin")
+                .adminUserPassword(ADMIN_USER_PASSWORD)
+                .authType(AUTH_TYPE)
+                .shardCapacity(2)
+                .shardCount(1)
+                .build();
+        final ProgressEvent<ResourceModel, CallbackContext> created = new CreateHandler().handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).desiredResourceTags(TAG_MAP).build(),
+                new CallbackContext(), proxyClient, LOGGER);
+        assertThat(created.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        final String arn = created.getResourceModel().getClusterArn();
+        assertThat(arn).startsWith(DocDbElasticSimulator.ARN_PREFIX);
+
+        final ResourceModel current = created.getResourceModel();
+        final ResourceModel desired = ResourceModel.builder()
+                .clusterArn(arn)
+                .clusterName(CLUSTER_NAME)
+                .authType(AUTH_TYPE)
+                .shardCapacity(4)
+                .shardCount(1)
+                .build();
+        final Map<String, String> desiredTags = new HashMap<>();
+        desiredTags.put("testKey2", "testValue2");
+        final ProgressEvent<ResourceModel, CallbackContext> updated = new UpdateHandler().handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder()
+                        .previousResourceState(current)
+                        .desiredResourceState(desired)
+                        .previousResourceTags(TAG_MAP)
+                        .desiredResourceTags(desiredTags)
+                        .build(),
+                new CallbackContext(), proxyClient, asyncProxyClient, LOGGER);
+        assertThat(updated.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(updated.getResourceModel().getShardCapacity()).isEqualTo(4);
+        assertThat(updated.getResourceModel().getTags())
+                .containsExactly(Tag.builder().key("testKey2").value("testValue2").build());
+
+        final ResourceHandlerRequest<ResourceModel> byArn = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().clusterArn(arn).build())
+                .build();
+        final ProgressEvent<ResourceModel, CallbackContext> read = new ReadHandler().handleRequest(proxy, byArn,
+                new CallbackContext(), proxyClient, asyncProxyClient, LOGGER);
+        assertThat(read.getResourceModel()).isEqualTo(updated.getResourceModel());
+
+        final ProgressEvent<ResourceModel, CallbackContext> listed = new ListHandler().handleRequest(proxy, byArn,
+                new CallbackContext(), proxyClient, LOGGER);
+        assertThat(listed.getResourceModels()).extracting(ResourceModel::getClusterArn).containsExactly(arn);
+
+        final ProgressEvent<ResourceModel, CallbackContext> deleted = new DeleteHandler().handleRequest(proxy, byArn,
+                new CallbackContext(), proxyClient, LOGGER);
+        assertThat(deleted.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(simulator.clusterCount()).isZero();
+    }
+
+    @Test
+    public void lifecycle_FollowsTransitionDurations() {
+        final AtomicLong now = new AtomicLong();
+        final DocDbElasticSimulator simulator = DocDbElasticSimulator.builder()
+                .createDuration(Duration.ofMinutes(5L))
+                .updateDuration(Duration.ofMinutes(1L))
+                .clock(now::get)
+                .build();
+
+        final String arn = simulator.createCluster(createRequest(CLUSTER_NAME)).cluster().clusterArn();
+        final GetClusterRequest get = GetClusterRequest.builder().clusterArn(arn).build();
+        assertThat(simulator.getCluster(get).cluster().status()).isEqualTo(Status.CREATING);
+        assertThatExceptionOfType(ConflictException.class)
+                .isThrownBy(() -> simulator.updateCluster(UpdateClusterRequest.builder().clusterArn(arn).shardCount(2).build()));
+        assertThatExceptionOfType(ConflictException.class)
+                .isThrownBy(() -> simulator.createCluster(createRequest(CLUSTER_NAME)));
+
+        now.addAndGet(Duration.ofMinutes(5L).toMillis());
+        assertThat(simulator.getCluster(get).cluster().status()).isEqualTo(Status.ACTIVE);
+
+        simulator.updateCluster(UpdateClusterRequest.builder().clusterArn(arn).shardCount(2).build());
+        assertThat(simulator.getCluster(get).cluster().status()).isEqualTo(Status.UPDATING);
+        now.addAndGet(Duration.ofMinutes(1L).toMillis());
+        assertThat(simulator.getCluster(get).cluster().shardCount()).isEqualTo(2);
+        assertThat(simulator.getCluster(get).cluster().status()).isEqualTo(Status.ACTIVE);
+    }
+
+    @Test
+    public void listClusters_Paginates() {
+        final DocDbElasticSimulator simulator = DocDbElasticSimulator.builder().maxPageSize(2).build();
+        for (int i = 0; i < 5; i++) {
+            simulator.createCluster(createRequest(CLUSTER_NAME + i));
+        }
+
+        int pages = 0;
+        int clusters = 0;
+        String nextToken = null;
+        do {
+            final ListClustersResponse page =
+                    simulator.listClusters(ListClustersRequest.builder().maxResults(50).nextToken(nextToken).build());
+            clusters += page.clusters().size();
+            nextToken = page.nextToken();
+            pages++;
+        } while (nextToken != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(clusters).isEqualTo(5);
+    }
+
+    @Test
+    public void errors_QuotaThrottlingAndNotFound() {
+        final DocDbElasticSimulator limited = DocDbElasticSimulator.builder().maxClusters(1).build();
+        limited.createCluster(createRequest(CLUSTER_NAME));
+        assertThatExceptionOfType(ServiceQuotaExceededException.class)
+                .isThrownBy(() -> limited.createCluster(createRequest(CLUSTER_NAME + "2")));
+        assertThatExceptionOfType(ResourceNotFoundException.class)
+                .isThrownBy(() -> limited.getCluster(GetClusterRequest.builder().clusterArn("missing").build()));
+
+        final DocDbElasticSimulator throttling = DocDbElasticSimulator.builder().throttleRate(1.0).build();
+        assertThatExceptionOfType(ThrottlingException.class)
+                .isThrownBy(() -> throttling.listClusters(ListClustersRequest.builder().build()));
+        assertThat(throttling.throttledCallCount()).isEqualTo(1L);
+        assertThat(throttling.callCount("ListClusters")).isEqualTo(1L);
+        assertThat(throttling.totalCallCount()).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,173 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.json.JSONObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.docdbelastic.DocDbElasticAsyncClient;
+import software.amazon.awssdk.services.docdbelastic.DocDbElasticClient;
+import software.amazon.awssdk.services.docdbelastic.model.CreateClusterRequest;
+import software.amazon.awssdk.services.docdbelastic.model.GetClusterRequest;
+import software.amazon.awssdk.services.docdbelastic.model.GetClusterResponse;
+import software.amazon.awssdk.services.docdbelastic.model.Status;
+import software.amazon.awssdk.services.docdbelastic.model.TagResourceRequest;
+import software.amazon.awssdk.services.docdbelastic.model.UpdateClusterRequest;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GetClusterCacheTest extends AbstractTestBase {
+    private static final String CALL_GRAPH = BaseHandlerStd.CALL_GRAPH_PREFIX + "Read";
+    private static final String CALLER = "caller";
+
+    private final AtomicLong clockMillis = new AtomicLong(1_000L);
+    private final ServiceCallMetrics metrics = new ServiceCallMetrics("Read");
+    private DocDbElasticSimulator simulator;
+    private AmazonWebServicesClientProxy proxy;
+
+    @BeforeEach
+    public void setup() {
+        proxy = new AmazonWebServicesClientProxy(LOGGER, MOCK_CREDENTIALS,
+                () -> Duration.ofSeconds(PROXY_WAIT_TIME_SECONDS).toMillis());
+        simulator = DocDbElasticSimulator.builder()
+                .createDuration(Duration.ZERO)
+                .updateDuration(Duration.ofSeconds(60L))
+                .clock(clockMillis::get)
+                .build();
+    }
+
+    private GetClusterCache cache(final int maxEntries) {
+        return new GetClusterCache(ClusterCacheOptions.builder().ttl(Duration.ofSeconds(5L)).maxEntries(maxEntries).build(),
+                                   () -> clockMillis.get() * 1_000_000L);
+    }
+
+    private String createCluster(final String name) {
+        return simulator.createCluster(CreateClusterRequest.builder()
+                .clusterName(name)
+                .adminUserName("admin")
+                .authType(AUTH_TYPE)
+                .build()).cluster().clusterArn();
+    }
+
+    private static GetClusterResponse getCluster(final ProxyClient<DocDbElasticClient> client, final String arn) {
+        return client.injectCredentialsAndInvokeV2(GetClusterRequest.builder().clusterArn(arn).build(), client.client()::getCluster);
+    }
+
+    @Test
+    public void getCluster_ServedFromCacheUntilTtl() {
+        final String arn = createCluster(CLUSTER_NAME);
+        final ProxyClient<DocDbElasticClient> proxyClient = cache(10).caching(MOCK_PROXY(proxy, simulator), CALLER, metrics, CALL_GRAPH);
+
+        final GetClusterResponse first = getCluster(proxyClient, arn);
+        assertThat(getCluster(proxyClient, arn)).isSameAs(first);
+        assertThat(simulator.callCount("GetCluster")).isEqualTo(1);
+
+        clockMillis.addAndGet(5_000L);
+        getCluster(proxyClient, arn);
+        assertThat(simulator.callCount("GetCluster")).isEqualTo(2);
+
+        final List<String> lines = new ArrayList<>();
+        metrics.emit(lines::add);
+        final JSONObject line = new JSONObject(lines.get(0));
+        assertThat(line.getLong("CacheHits")).isEqualTo(1L);
+        assertThat(line.getLong("CacheMisses")).isEqualTo(2L);
+    }
+
+    @Test
+    public void getCluster_ClustersInTransitionAreNotCached() {
+        final String arn = createCluster(CLUSTER_NAME);
+        simulator.updateCluster(UpdateClusterRequest.builder().clusterArn(arn).shardCapacity(4).build());
+        final ProxyClient<DocDbElasticClient> proxyClient = cache(10).caching(MOCK_PROXY(proxy, simulator), CALLER, metrics, CALL_GRAPH);
+
+        getCluster(proxyClient, arn);
+        getCluster(proxyClient, arn);
+
+        assertThat(simulator.callCount("GetCluster")).isEqualTo(2);
+    }
+
+    @Test
+    public void getCluster_LeastRecentlyReadEvicted() {
+        final String first = createCluster("first");
+        final String second = createCluster("second");
+        final String third = createCluster("third");
+        final GetClusterCache cache = cache(2);
+        final ProxyClient<DocDbElasticClient> proxyClient = cache.caching(MOCK_PROXY(proxy, simulator), CALLER, metrics, CALL_GRAPH);
+
+        getCluster(proxyClient, first);
+        getCluster(proxyClient, second);
+        getCluster(proxyClient, first);
+        getCluster(proxyClient, third);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(CALLER, first)).isNotNull();
+        assertThat(cache.get(CALLER, second)).isNull();
+        assertThat(cache.get(CALLER, third)).isNotNull();
+    }
+
+    @Test
+    public void mutations_InvalidateTheirCluster() {
+        final String arn = createCluster(CLUSTER_NAME);
+        final String other = createCluster("other");
+        final GetClusterCache cache = cache(10);
+        final ProxyClient<DocDbElasticClient> proxyClient = cache.caching(MOCK_PROXY(proxy, simulator), CALLER, metrics, CALL_GRAPH);
+        final ProxyClient<DocDbElasticAsyncClient> asyncProxyClient =
+                cache.caching(MOCK_ASYNC_PROXY(proxy, simulator.async()), CALLER, metrics, CALL_GRAPH);
+
+        getCluster(proxyClient, arn);
+        getCluster(proxyClient, other);
+        asyncProxyClient.injectCredentialsAndInvokeV2Async(
+                TagResourceRequest.builder().resourceArn(arn).tags(Collections.singletonMap("k", "v")).build(),
+                asyncProxyClient.client()::tagResource).join();
+        assertThat(cache.get(CALLER, arn)).isNull();
+        assertThat(cache.get(CALLER, other)).isNotNull();
+
+        getCluster(proxyClient, arn);
+        proxyClient.injectCredentialsAndInvokeV2(UpdateClusterRequest.builder().clusterArn(arn).shardCapacity(4).build(),
+                proxyClient.client()::updateCluster);
+        assertThat(getCluster(proxyClient, arn).cluster().status()).isEqualTo(Status.UPDATING);
+    }
+
+    @Test
+    public void getCluster_NotSharedBetweenCallers() {
+        final String arn = createCluster(CLUSTER_NAME);
+        final GetClusterCache cache = cache(10);
+        final ProxyClient<DocDbElasticClient> first = cache.caching(MOCK_PROXY(proxy, simulator), CALLER, metrics, CALL_GRAPH);
+        final ProxyClient<DocDbElasticClient> second = cache.caching(MOCK_PROXY(proxy, simulator), "other", metrics, CALL_GRAPH);
+
+        getCluster(first, arn);
+        getCluster(second, arn);
+        getCluster(first, arn);
+        assertThat(simulator.callCount("GetCluster")).isEqualTo(2);
+
+        second.injectCredentialsAndInvokeV2(UpdateClusterRequest.builder().clusterArn(arn).shardCapacity(4).build(),
+                second.client()::updateCluster);
+        assertThat(cache.get(CALLER, arn)).isNull();
+        assertThat(cache.get("other", arn)).isNull();
+    }
+
+    @Test
+    public void callerIdentity_AccessKeyOfInjectedCredentials() {
+        assertThat(CallerIdentity.of(proxy)).isEqualTo(MOCK_CREDENTIALS.getAccessKeyId());
+    }
+
+    @Test
+    public void fromEnvironment_CachesOnlyWhenTurnedOn() {
+        assertThat(ClusterCacheOptions.fromEnvironment(name -> null)).isNull();
+        assertThat(ClusterCacheOptions.fromEnvironment(name -> "false")).isNull();
+        assertThat(ClusterCacheOptions.fromEnvironment(
+                name -> ClusterCacheOptions.ENVIRONMENT_VARIABLE.equals(name) ? "true" : null)).isNotNull();
+    }
+
+    @Test
+    public void caching_DisabledByDefault() {
+        final ProxyClient<DocDbElasticClient> proxyClient = MOCK_PROXY(proxy, simulator);
+
+        assertThat(GetClusterCache.shared().isEnabled()).isFalse();
+        assertThat(GetClusterCache.shared().caching(proxyClient, CALLER, metrics, CALL_GRAPH)).isSameAs(proxyClient);
+    }
+}
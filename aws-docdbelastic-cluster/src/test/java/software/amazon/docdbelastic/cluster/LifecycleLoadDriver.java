@@ -0,0 +1,363 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import software.amazon.awssdk.services.docdbelastic.DocDbElasticAsyncClient;
+import software.amazon.awssdk.services.docdbelastic.DocDbElasticClient;
+import software.amazon.awssdk.services.docdbelastic.model.ThrottlingException;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+/**
+ * Replays full Create, Update, Read, List and Delete lifecycles through the handlers against a
+ * {@link DocDbElasticSimulator}, the way CloudFormation drives them: IN_PROGRESS events are re-invoked with the
+ * returned callback context after the callback delay, and throttled invocations are retried. Service calls are retried
+ * with the handlers' {@link RetryPolicy}. Service transition times, retry and callback delays are multiplied by
+ * {@code timeScale} so that lifecycles of many minutes run in milliseconds.
+ *
+ * <pre>
+ * mvn -Pload-test test-compile exec:exec@load-test -Dload.args="--lifecycles 5000 --concurrency 500 --throttleRate 0.02"
+ * </pre>
+ */
+public class LifecycleLoadDriver {
+    private static final Credentials CREDENTIALS = new Credentials("accessKey", "secretKey", "token");
+    private static final Logger SILENT = message -> { };
+    private static final LoggerProxy PROXY_LOGGER = new LoggerProxy();
+    private static final int MAX_THROTTLE_RETRIES = 10;
+    /**
+     * Account and region of the simulator's clusters
+     */
+    private static final String SCOPE = StatusPoller.scopeOf(DocDbElasticSimulator.ARN_PREFIX);
+
+    enum Operation { CREATE, UPDATE, READ, LIST, DELETE }
+
+    private final int lifecycles;
+    private final int concurrency;
+    private final double timeScale;
+    private final DocDbElasticSimulator simulator;
+    private final ApiRateLimiter rateLimiter;
+    private final RetryPolicy retryPolicy;
+    private final StatusPollerOptions statusPolling;
+
+    private final Map<Operation, List<Long>> invocationNanos = new EnumMap<>(Operation.class);
+    private final Map<Operation, List<Long>> completionNanos = new EnumMap<>(Operation.class);
+    private final AtomicInteger failedLifecycles = new AtomicInteger();
+    private final Map<String, AtomicInteger> failures = new ConcurrentSkipListMap<>();
+    private final AtomicLong throttledInvocations = new AtomicLong();
+
+    /**
+     * @param lifecycles number of lifecycles to run, default 1000
+     * @param concurrency lifecycles in flight at once, default 100
+     * @param timeScale factor applied to service transition times and callback delays, default 0.001
+     * @param createDuration simulated time a cluster stays CREATING, default 10 minutes
+     * @param updateDuration simulated time a cluster stays UPDATING, default 5 minutes
+     * @param deleteDuration simulated time a cluster stays DELETING, default 5 minutes
+     * @param throttleRate fraction of service calls throttled by the simulator, default 0
+     * @param rateLimiter limiter shared by all lifecycles in front of the simulator, default none
+     * @param statusPolling ListClusters sweeps shared by the stabilizations of all lifecycles, in simulated time,
+     *                      default none
+     */
+    @lombok.Builder
+    private LifecycleLoadDriver(final Integer lifecycles,
+                                final Integer concurrency,
+                                final Double timeScale,
+                                final Duration createDuration,
+                                final Duration updateDuration,
+                                final Duration deleteDuration,
+                                final Double throttleRate,
+                                final RateLimiterOptions rateLimiter,
+                                final StatusPollerOptions statusPolling) {
+        this.lifecycles = lifecycles == null ? 1000 : lifecycles;
+        this.concurrency = concurrency == null ? 100 : concurrency;
+        this.timeScale = timeScale == null ? 0.001 : timeScale;
+        this.simulator = DocDbElasticSimulator.builder()
+                .createDuration(scale(createDuration == null ? Duration.ofMinutes(10L) : createDuration))
+                .updateDuration(scale(updateDuration == null ? Duration.ofMinutes(5L) : updateDuration))
+                .deleteDuration(scale(deleteDuration == null ? Duration.ofMinutes(5L) : deleteDuration))
+                .throttleRate(throttleRate)
+                .maxClusters(Integer.MAX_VALUE)
+                .build();
+        this.rateLimiter = rateLimiter == null ? null : new ApiRateLimiter(rateLimiter);
+        this.statusPolling = statusPolling == null ? null : StatusPollerOptions.builder()
+                .sweepInterval(scale(statusPolling.getSweepInterval()))
+                .pageSize(statusPolling.getPageSize())
+                .build();
+        this.retryPolicy = BaseHandlerStd.RETRY_POLICY.toBuilder()
+                .baseDelay(scale(BaseHandlerStd.RETRY_POLICY.getBaseDelay()))
+                .maxDelay(scale(BaseHandlerStd.RETRY_POLICY.getMaxDelay()))
+                .invocationBudget(scale(BaseHandlerStd.RETRY_POLICY.getInvocationBudget()))
+                .build();
+        for (final Operation operation : Operation.values()) {
+            invocationNanos.put(operation, Collections.synchronizedList(new ArrayList<>()));
+            completionNanos.put(operation, Collections.synchronizedList(new ArrayList<>()));
+        }
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            options.put(args[i].replaceFirst("^--", ""), args[i + 1]);
+        }
+        final LifecycleLoadDriver driver = LifecycleLoadDriver.builder()
+                .lifecycles(options.containsKey("lifecycles") ? Integer.valueOf(options.get("lifecycles")) : null)
+                .concurrency(options.containsKey("concurrency") ? Integer.valueOf(options.get("concurrency")) : null)
+                .timeScale(options.containsKey("timeScale") ? Double.valueOf(options.get("timeScale")) : null)
+                .throttleRate(options.containsKey("throttleRate") ? Double.valueOf(options.get("throttleRate")) : null)
+                .rateLimiter(options.containsKey("rateLimit")
+                        ? RateLimiterOptions.builder().defaultRate(Double.parseDouble(options.get("rateLimit"))).build()
+                        : null)
+                .statusPolling(options.containsKey("statusSweepInterval")
+                        ? StatusPollerOptions.builder()
+                                .sweepInterval(Duration.ofSeconds(Long.parseLong(options.get("statusSweepInterval"))))
+                                .build()
+                        : null)
+                .build();
+        System.out.println(driver.run());
+    }
+
+    /**
+     * Runs all lifecycles and blocks until they are done
+     *
+     * @return latency, call and throttling report
+     */
+    public Report run() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        final long start = System.nanoTime();
+        StatusPoller.configure(statusPolling);
+        try {
+            final List<Future<?>> pending = new ArrayList<>(lifecycles);
+            for (int i = 0; i < lifecycles; i++) {
+                final String clusterName = "load-" + i;
+                pending.add(executor.submit(() -> lifecycle(clusterName)));
+            }
+            for (final Future<?> future : pending) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+            StatusPoller.configure(null);
+        }
+        return new Report(System.nanoTime() - start);
+    }
+
+    private void lifecycle(final String clusterName) {
+        final ProxyClient<DocDbElasticClient> proxyClient = limited(AbstractTestBase.MOCK_PROXY(proxy(), simulator));
+        final ProxyClient<DocDbElasticAsyncClient> asyncProxyClient = limited(AbstractTestBase.MOCK_ASYNC_PROXY(proxy(), simulator.async()));
+
+        final ResourceModel model = ResourceModel.builder()
+                .clusterName(clusterName)
+                .adminUserName("admin")
+                .adminUserPassword("password")
+                .authType("PLAIN_TEXT")
+                .shardCapacity(2)
+                .shardCount(1)
+                .build();
+        final Map<String, String> tags = Collections.singletonMap("stack", clusterName);
+
+        final ProgressEvent<ResourceModel, CallbackContext> created = drive(Operation.CREATE, new CreateHandler(),
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).desiredResourceTags(tags).build(),
+                proxyClient, asyncProxyClient);
+        if (created.getStatus() != OperationStatus.SUCCESS) {
+            failedLifecycles.incrementAndGet();
+            return;
+        }
+
+        final ResourceModel current = created.getResourceModel();
+        final ResourceModel desired = ResourceModel.builder()
+                .clusterArn(current.getClusterArn())
+                .clusterName(clusterName)
+                .authType("PLAIN_TEXT")
+                .shardCapacity(4)
+                .shardCount(1)
+                .build();
+        final ResourceHandlerRequest<ResourceModel> byArn = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().clusterArn(current.getClusterArn()).build())
+                .build();
+
+        // later operations still run after a failure so that the cluster is deleted
+        boolean succeeded = drive(Operation.UPDATE, new UpdateHandler(), ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(current)
+                .desiredResourceState(desired)
+                .previousResourceTags(tags)
+                .desiredResourceTags(Collections.singletonMap("stack", clusterName + "-updated"))
+                .build(), proxyClient, asyncProxyClient).getStatus() == OperationStatus.SUCCESS;
+        succeeded &= drive(Operation.READ, new ReadHandler(), byArn, proxyClient, asyncProxyClient).getStatus() == OperationStatus.SUCCESS;
+        succeeded &= drive(Operation.LIST, new ListHandler(), byArn, proxyClient, asyncProxyClient).getStatus() == OperationStatus.SUCCESS;
+        succeeded &= drive(Operation.DELETE, new DeleteHandler(), byArn, proxyClient, asyncProxyClient).getStatus() == OperationStatus.SUCCESS;
+        if (!succeeded) {
+            failedLifecycles.incrementAndGet();
+        }
+    }
+
+    private <ClientT> ProxyClient<ClientT> limited(final ProxyClient<ClientT> proxyClient) {
+        return rateLimiter == null ? proxyClient : rateLimiter.limit(proxyClient, SCOPE);
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> drive(final Operation operation,
+                                                              final BaseHandlerStd handler,
+                                                              final ResourceHandlerRequest<ResourceModel> request,
+                                                              final ProxyClient<DocDbElasticClient> proxyClient,
+                                                              final ProxyClient<DocDbElasticAsyncClient> asyncProxyClient) {
+        // invocations take real time and waits take simulated time, so neither is scaled
+        long completion = 0L;
+        CallbackContext context = new CallbackContext();
+        int throttles = 0;
+        while (true) {
+            ProgressEvent<ResourceModel, CallbackContext> event;
+            final long invocationStart = System.nanoTime();
+            final CallbackContext invocationContext = context;
+            final ProxyClient<DocDbElasticClient> retryingProxyClient = retryPolicy.retrying(proxyClient,
+                    invocationStart + retryPolicy.getInvocationBudget().toNanos());
+            try {
+                event = handler.resumeAfterRetryableError(() -> handler.handleRequest(proxy(), request, invocationContext,
+                        retryingProxyClient, asyncProxyClient, SILENT), request, invocationContext, SILENT);
+            } catch (ThrottlingException e) {
+                event = ProgressEvent.failed(null, context, HandlerErrorCode.Throttling, e.getMessage());
+            } catch (BaseHandlerException e) {
+                event = ProgressEvent.failed(null, context, e.getErrorCode(), e.getMessage());
+            }
+            final long invocation = System.nanoTime() - invocationStart;
+            invocationNanos.get(operation).add(invocation);
+            completion += invocation;
+
+            if (event.getStatus() == OperationStatus.IN_PROGRESS) {
+                context = event.getCallbackContext() == null ? context : event.getCallbackContext();
+                completion += sleep(Duration.ofSeconds(event.getCallbackDelaySeconds()));
+            } else if (event.getErrorCode() == HandlerErrorCode.Throttling && throttles++ < MAX_THROTTLE_RETRIES) {
+                throttledInvocations.incrementAndGet();
+                completion += sleep(Duration.ofSeconds(1L << Math.min(throttles, 5)));
+            } else {
+                if (event.getStatus() != OperationStatus.SUCCESS) {
+                    failures.computeIfAbsent(operation + " " + event.getErrorCode(), key -> new AtomicInteger()).incrementAndGet();
+                }
+                completionNanos.get(operation).add(completion);
+                return event;
+            }
+        }
+    }
+
+    /**
+     * No time is left for in-process waits, so every wait goes through a callback with its full delay
+     */
+    private static AmazonWebServicesClientProxy proxy() {
+        return new AmazonWebServicesClientProxy(PROXY_LOGGER, CREDENTIALS, () -> 0L);
+    }
+
+    private Duration scale(final Duration duration) {
+        return Duration.ofNanos((long) (duration.toNanos() * timeScale));
+    }
+
+    /**
+     * @return the simulated duration slept, in nanoseconds
+     */
+    private long sleep(final Duration simulated) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(scale(simulated).toNanos());
+            return simulated.toNanos();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Outcome of a run. Failures are counted by operation and error code. Invocation latency is the real time spent in one handler call; completion is the simulated time
+     * from the first invocation of an operation to its final event: its invocation latencies plus the unscaled callback
+     * and throttling delays between them.
+     */
+    @lombok.Getter
+    public class Report {
+        private final long elapsedNanos;
+        private final int failedLifecycles;
+        private final double callsPerLifecycle;
+        private final double throttleRate;
+        private final long throttledInvocations;
+        private final Map<String, Integer> failures = new TreeMap<>();
+
+        private Report(final long elapsedNanos) {
+            this.elapsedNanos = elapsedNanos;
+            this.failedLifecycles = LifecycleLoadDriver.this.failedLifecycles.get();
+            this.callsPerLifecycle = (double) simulator.totalCallCount() / lifecycles;
+            this.throttleRate = simulator.totalCallCount() == 0 ? 0.0
+                    : (double) simulator.throttledCallCount() / simulator.totalCallCount();
+            this.throttledInvocations = LifecycleLoadDriver.this.throttledInvocations.get();
+            LifecycleLoadDriver.this.failures.forEach((failure, count) -> failures.put(failure, count.get()));
+        }
+
+        int invocations(final Operation operation) {
+            return invocationNanos.get(operation).size();
+        }
+
+        /**
+         * @return the invocation latency at the given percentile, by nearest rank
+         */
+        Duration invocationLatency(final Operation operation, final double percentile) {
+            return Duration.ofNanos(percentile(invocationNanos.get(operation), percentile));
+        }
+
+        /**
+         * @return the simulated completion time at the given percentile, by nearest rank
+         */
+        Duration completion(final Operation operation, final double percentile) {
+            return Duration.ofNanos(percentile(completionNanos.get(operation), percentile));
+        }
+
+        private long percentile(final List<Long> samples, final double percentile) {
+            final List<Long> sorted;
+            synchronized (samples) {
+                sorted = new ArrayList<>(samples);
+            }
+            if (sorted.isEmpty()) {
+                return 0L;
+            }
+            Collections.sort(sorted);
+            final int rank = (int) Math.ceil(percentile / 100.0 * sorted.size());
+            return sorted.get(Math.max(0, rank - 1));
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder report = new StringBuilder();
+            report.append(String.format("%d lifecycles, concurrency %d, %d failed, %.1f s%n", lifecycles, concurrency,
+                    failedLifecycles, elapsedNanos / 1e9));
+            report.append(String.format("%-8s %11s %28s %30s%n", "", "invocations",
+                    "invocation p50/p95/p99 (ms)", "completion p50/p95/p99 (s)"));
+            for (final Operation operation : Operation.values()) {
+                report.append(String.format("%-8s %11d %8.2f %8.2f %8.2f %10.0f %8.0f %8.0f%n", operation,
+                        invocations(operation),
+                        invocationLatency(operation, 50).toNanos() / 1e6,
+                        invocationLatency(operation, 95).toNanos() / 1e6,
+                        invocationLatency(operation, 99).toNanos() / 1e6,
+                        completion(operation, 50).toMillis() / 1e3,
+                        completion(operation, 95).toMillis() / 1e3,
+                        completion(operation, 99).toMillis() / 1e3));
+            }
+            report.append(String.format("service calls per lifecycle %.1f, throttled calls %.2f%%, throttled invocations %d",
+                    callsPerLifecycle, throttleRate * 100, throttledInvocations));
+            failures.forEach((failure, count) -> report.append(String.format("%nfailed %s: %d", failure, count)));
+            return report.toString();
+        }
+    }
+}
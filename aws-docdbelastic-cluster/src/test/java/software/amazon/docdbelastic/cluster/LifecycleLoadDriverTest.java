@@ -0,0 +1,49 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LifecycleLoadDriverTest {
+
+    @Test
+    public void run_AllLifecyclesComplete() throws Exception {
+        final LifecycleLoadDriver.Report report = LifecycleLoadDriver.builder()
+                .lifecycles(40)
+                .concurrency(20)
+                // sleeps of a few milliseconds keep the scaled callback delays close to the simulated ones
+                .timeScale(0.001)
+                .build()
+                .run();
+
+        assertThat(report.getFailedLifecycles()).isZero();
+        for (final LifecycleLoadDriver.Operation operation : LifecycleLoadDriver.Operation.values()) {
+            assertThat(report.completion(operation, 99)).isGreaterThanOrEqualTo(report.completion(operation, 50));
+        }
+        // create and delete wait through callbacks while the cluster transitions
+        assertThat(report.invocations(LifecycleLoadDriver.Operation.CREATE)).isGreaterThan(40);
+        assertThat(report.completion(LifecycleLoadDriver.Operation.CREATE, 50)).isGreaterThanOrEqualTo(Duration.ofMinutes(10L));
+        // a read has no callbacks, so its completion is its real invocation time
+        assertThat(report.completion(LifecycleLoadDriver.Operation.READ, 99))
+                .isEqualTo(report.invocationLatency(LifecycleLoadDriver.Operation.READ, 99));
+        assertThat(report.getCallsPerLifecycle()).isGreaterThan(0.0);
+        assertThat(report.getThrottleRate()).isZero();
+    }
+
+    @Test
+    public void run_ReportsThrottling() throws Exception {
+        final LifecycleLoadDriver.Report report = LifecycleLoadDriver.builder()
+                .lifecycles(40)
+                .concurrency(20)
+                .timeScale(0.0001)
+                .throttleRate(0.05)
+                .build()
+                .run();
+
+        assertThat(report.getThrottleRate()).isGreaterThan(0.0);
+        assertThat(report.getThrottledInvocations()).isGreaterThan(0L);
+        assertThat(report.getFailures().values().stream().mapToInt(Integer::intValue).sum())
+                .isGreaterThanOrEqualTo(report.getFailedLifecycles());
+    }
+}
@@ -3,15 +3,24 @@ package software.amazon.docdbelastic.cluster;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.docdbelastic.DocDbElasticAsyncClient;
 import software.amazon.awssdk.services.docdbelastic.DocDbElasticClient;
+import software.amazon.awssdk.services.docdbelastic.model.Auth;
+import software.amazon.awssdk.services.docdbelastic.model.Cluster;
 import software.amazon.awssdk.services.docdbelastic.model.ClusterInList;
+import software.amazon.awssdk.services.docdbelastic.model.GetClusterRequest;
+import software.amazon.awssdk.services.docdbelastic.model.GetClusterResponse;
 import software.amazon.awssdk.services.docdbelastic.model.ListClustersRequest;
 import software.amazon.awssdk.services.docdbelastic.model.ListClustersResponse;
+import software.amazon.awssdk.services.docdbelastic.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.docdbelastic.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.docdbelastic.model.ResourceNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -20,6 +29,7 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -35,6 +45,12 @@ public class ListHandlerTest extends AbstractTestBase {
     @Mock
     private ProxyClient<DocDbElasticClient> proxyClient;
 
+    @Mock
+    private DocDbElasticAsyncClient asyncSdkClient;
+
+    @Mock
+    private ProxyClient<DocDbElasticAsyncClient> asyncProxyClient;
+
     @BeforeEach
     public void setup() {
         proxy = new AmazonWebServicesClientProxy(LOGGER,
@@ -43,6 +59,8 @@ public class ListHandlerTest extends AbstractTestBase {
                         .toMillis());
         sdkClient = mock(DocDbElasticClient.class);
         proxyClient = MOCK_PROXY(proxy, sdkClient);
+        asyncSdkClient = mock(DocDbElasticAsyncClient.class);
+        asyncProxyClient = MOCK_ASYNC_PROXY(proxy, asyncSdkClient);
     }
 
     @Test
@@ -156,4 +174,78 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
         assertThat(response.getNextToken()).isEqualTo(nextToken);
     }
+
+    @Test
+    public void handleRequest_Hydrated() {
+        final ListHandler handler = new ListHandler(HydrationOptions.builder().parallelism(1).build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .build();
+
+        ListClustersResponse mockListClustersResponse =
+                ListClustersResponse.builder()
+                        .clusters(ClusterInList.builder().clusterArn("arn1").clusterName("id1").build(),
+                                  ClusterInList.builder().clusterArn("arn2").clusterName("id2").build())
+                        .build();
+
+        GetClusterResponse mockGetClusterResponse =
+                GetClusterResponse.builder()
+                        .cluster(Cluster.builder()
+                                .clusterArn("arn1")
+                                .clusterName("id1")
+                                .authType(Auth.PLAIN_TEXT)
+                                .build())
+                        .build();
+
+        final CompletableFuture<GetClusterResponse> notFound = new CompletableFuture<>();
+        notFound.completeExceptionally(ResourceNotFoundException.builder().build());
+
+        when(proxyClient.client()
+                .listClusters(any(ListClustersRequest.class)))
+                .thenReturn(mockListClustersResponse);
+        when(asyncProxyClient.client()
+                .getCluster(argThat((GetClusterRequest r) -> r != null && "arn1".equals(r.clusterArn()))))
+                .thenReturn(CompletableFuture.completedFuture(mockGetClusterResponse));
+        when(asyncProxyClient.client()
+                .getCluster(argThat((GetClusterRequest r) -> r != null && "arn2".equals(r.clusterArn()))))
+                .thenReturn(notFound);
+        when(asyncProxyClient.client()
+                .listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(ListTagsForResourceResponse.builder().tags(TAG_MAP).build()));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, asyncProxyClient, LOGGER);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).hasSize(2);
+        assertThat(response.getResourceModels().get(0).getClusterName()).isEqualTo("id1");
+        assertThat(response.getResourceModels().get(0).getAuthType()).isEqualTo(AUTH_TYPE);
+        assertThat(response.getResourceModels().get(0).getTags()).isEqualTo(TAGS);
+        // a cluster that could not be read keeps its identifier-only model
+        assertThat(response.getResourceModels().get(1))
+                .isEqualTo(ResourceModel.builder().clusterArn("arn2").build());
+    }
+
+    @Test
+    public void handleRequest_NotHydratedByDefault() {
+        final ListHandler handler = new ListHandler();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .build();
+
+        when(proxyClient.client()
+                .listClusters(any(ListClustersRequest.class)))
+                .thenReturn(ListClustersResponse.builder()
+                        .clusters(ClusterInList.builder().clusterArn("arn1").build())
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, asyncProxyClient, LOGGER);
+
+        assertThat(response.getResourceModels())
+                .containsExactly(ResourceModel.builder().clusterArn("arn1").build());
+    }
 }
@@ -0,0 +1,71 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.docdbelastic.model.CreateClusterRequest;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LocalPollingTest extends AbstractTestBase {
+    private static final LocalPolling POLLING = LocalPolling.builder()
+            .initialInterval(Duration.ofMillis(10L))
+            .maxInterval(Duration.ofMillis(40L))
+            .maxWait(Duration.ofSeconds(5L))
+            .build();
+
+    private static long secondsFromNow(final long seconds) {
+        return System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+    }
+
+    @Test
+    public void poll_ChecksAgainUntilStable() {
+        final AtomicInteger checks = new AtomicInteger();
+
+        assertThat(POLLING.poll(() -> checks.incrementAndGet() == 4, secondsFromNow(5L))).isTrue();
+        assertThat(checks.get()).isEqualTo(4);
+    }
+
+    @Test
+    public void poll_ChecksOnceWithoutDeadline() {
+        final AtomicInteger checks = new AtomicInteger();
+
+        assertThat(POLLING.poll(() -> checks.incrementAndGet() == 4, null)).isFalse();
+        assertThat(checks.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void poll_StopsBeforeDeadline() {
+        final AtomicInteger checks = new AtomicInteger();
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100L);
+
+        assertThat(POLLING.poll(() -> checks.incrementAndGet() < 0, deadline)).isFalse();
+        assertThat(System.nanoTime()).isLessThan(deadline);
+        assertThat(checks.get()).isBetween(2, 5);
+    }
+
+    @Test
+    public void stabilizeDelete_PollsInProcessUntilGone() {
+        final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(LOGGER, MOCK_CREDENTIALS,
+                () -> Duration.ofSeconds(PROXY_WAIT_TIME_SECONDS).toMillis());
+        final DocDbElasticSimulator simulator = DocDbElasticSimulator.builder()
+                .deleteDuration(Duration.ofMillis(100L))
+                .build();
+        final String arn = simulator.createCluster(CreateClusterRequest.builder()
+                .clusterName(CLUSTER_NAME)
+                .adminUserName("admin")
+                .authType(AUTH_TYPE)
+                .build()).cluster().clusterArn();
+        simulator.deleteCluster(RequestTranslator.translateToDeleteRequest(ResourceModel.builder().clusterArn(arn).build()));
+        final CallbackContext context = new CallbackContext();
+        context.setInvocationDeadline(secondsFromNow(5L));
+
+        final boolean stabilized = new ResourceStabilizer(MOCK_PROXY(proxy, simulator), LOGGER, POLLING)
+                .stabilizeDelete(ResourceModel.builder().clusterArn(arn).build(), context);
+
+        assertThat(stabilized).isTrue();
+        assertThat(simulator.callCount("GetCluster")).isGreaterThan(1);
+    }
+}
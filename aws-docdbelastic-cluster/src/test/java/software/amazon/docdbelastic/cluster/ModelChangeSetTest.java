@@ -0,0 +1,95 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.docdbelastic.model.UpdateClusterRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ModelChangeSetTest {
+
+    private static ResourceModel.ResourceModelBuilder model() {
+        return ResourceModel.builder()
+                .clusterArn("arn")
+                .authType("PLAIN_TEXT")
+                .shardCapacity(200)
+                .shardCount(2)
+                .vpcSecurityGroupIds(Arrays.asList("sg-1", "sg-2", "sg-2"))
+                .subnetIds(Arrays.asList("subnet-1", "subnet-2"));
+    }
+
+    @Test
+    public void between_ReorderedListsAreUnchanged() {
+        final ModelChangeSet changeSet = ModelChangeSet.between(model().build(), model()
+                .vpcSecurityGroupIds(Arrays.asList("sg-2", "sg-1", "sg-2"))
+                .subnetIds(Arrays.asList("subnet-2", "subnet-1"))
+                .build());
+
+        assertThat(changeSet.isNoOp()).isTrue();
+        assertThat(changeSet.plannedCalls()).isEmpty();
+        assertThat(RequestTranslator.translateToUpdateClusterRequest(changeSet)).isNull();
+    }
+
+    @Test
+    public void between_DuplicatesAreCompared() {
+        final ModelChangeSet changeSet = ModelChangeSet.between(model().build(), model()
+                .vpcSecurityGroupIds(Arrays.asList("sg-1", "sg-1", "sg-2"))
+                .build());
+
+        assertThat(changeSet.getChangedProperties()).containsExactly(ModelChangeSet.Property.VPC_SECURITY_GROUP_IDS);
+    }
+
+    @Test
+    public void between_LargeIntegersAreComparedByValue() {
+        final ModelChangeSet changeSet = ModelChangeSet.between(model().shardCapacity(Integer.valueOf(1000)).build(),
+                model().shardCapacity(Integer.valueOf(1000)).build());
+
+        assertThat(changeSet.isClusterUpdateRequired()).isFalse();
+    }
+
+    @Test
+    public void translateToUpdateClusterRequest_OnlyChangedProperties() {
+        final ModelChangeSet changeSet = ModelChangeSet.between(model().build(), model().shardCount(4).build());
+
+        final UpdateClusterRequest request = RequestTranslator.translateToUpdateClusterRequest(changeSet);
+
+        assertThat(request.clusterArn()).isEqualTo("arn");
+        assertThat(request.shardCount()).isEqualTo(4);
+        assertThat(request.shardCapacity()).isNull();
+        assertThat(request.hasSubnetIds()).isFalse();
+        assertThat(request.hasVpcSecurityGroupIds()).isFalse();
+    }
+
+    @Test
+    public void between_TagChanges() {
+        final Map<String, String> previousTags = new HashMap<>();
+        previousTags.put("keep", "v");
+        previousTags.put("change", "old");
+        previousTags.put("remove", "v");
+        final Map<String, String> desiredTags = new HashMap<>();
+        desiredTags.put("keep", "v");
+        desiredTags.put("change", "new");
+        desiredTags.put("add", "v");
+
+        final ModelChangeSet changeSet = ModelChangeSet.between(model().build(), model().shardCount(4).build(),
+                previousTags, desiredTags);
+
+        assertThat(changeSet.getTagsToAdd()).containsOnlyKeys("change", "add");
+        assertThat(changeSet.getTagsToRemove()).containsExactly("remove");
+        assertThat(changeSet.plannedCalls()).containsExactly(
+                "UpdateCluster [ShardCount]",
+                "TagResource " + changeSet.getTagsToAdd().keySet(),
+                "UntagResource [remove]");
+    }
+
+    @Test
+    public void between_NoTags() {
+        final ModelChangeSet changeSet = ModelChangeSet.between(model().build(), model().build(),
+                Collections.emptyMap(), Collections.emptyMap());
+
+        assertThat(changeSet.hasTagChanges()).isFalse();
+    }
+}
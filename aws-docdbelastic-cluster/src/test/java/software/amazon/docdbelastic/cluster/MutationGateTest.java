@@ -0,0 +1,101 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.docdbelastic.model.ConflictException;
+import software.amazon.awssdk.services.docdbelastic.model.CreateClusterRequest;
+import software.amazon.awssdk.services.docdbelastic.model.Status;
+import software.amazon.awssdk.services.docdbelastic.model.UpdateClusterRequest;
+import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MutationGateTest extends AbstractTestBase {
+    private final AtomicLong clockMillis = new AtomicLong(1_000L);
+    private DocDbElasticSimulator simulator;
+    private AmazonWebServicesClientProxy proxy;
+    private String clusterArn;
+
+    @BeforeEach
+    public void setup() {
+        proxy = new AmazonWebServicesClientProxy(LOGGER, MOCK_CREDENTIALS, () -> 0L);
+        simulator = DocDbElasticSimulator.builder()
+                .updateDuration(Duration.ofSeconds(60L))
+                .clock(clockMillis::get)
+                .build();
+        clusterArn = simulator.createCluster(CreateClusterRequest.builder()
+                .clusterName(CLUSTER_NAME)
+                .adminUserName("admin")
+                .authType(AUTH_TYPE)
+                .build()).cluster().clusterArn();
+    }
+
+    private MutationGate gate(final CallbackContext context) {
+        return new MutationGate(MOCK_PROXY(proxy, simulator), UpdateHandler.UPDATE_BACKOFF_STRATEGY.forContext(context),
+                                LocalPolling.builder().build(), LOGGER);
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> progress(final CallbackContext context) {
+        return ProgressEvent.progress(ResourceModel.builder().clusterArn(clusterArn).build(), context);
+    }
+
+    @Test
+    public void awaitMutable_WaitsWhileClusterIsBusy() {
+        simulator.updateCluster(UpdateClusterRequest.builder().clusterArn(clusterArn).shardCapacity(4).build());
+        final CallbackContext context = new CallbackContext();
+
+        final ProgressEvent<ResourceModel, CallbackContext> waiting = gate(context).awaitMutable(progress(context), cluster -> {
+            throw new AssertionError("a busy cluster must not be changed");
+        });
+
+        assertThat(waiting.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(waiting.getCallbackDelaySeconds()).isGreaterThan(0);
+        assertThat(context.getMutationGateWaits()).isEqualTo(1);
+
+        clockMillis.addAndGet(60_000L);
+        final ProgressEvent<ResourceModel, CallbackContext> ready = gate(context).awaitMutable(progress(context), cluster -> {
+            assertThat(cluster.status()).isEqualTo(Status.ACTIVE);
+            return progress(context);
+        });
+
+        assertThat(ready.getCallbackDelaySeconds()).isEqualTo(0);
+        assertThat(context.getMutationGateWaits()).isZero();
+    }
+
+    @Test
+    public void retryConflicts_ConflictWaitsInsteadOfFailing() {
+        final CallbackContext context = new CallbackContext();
+
+        final ProgressEvent<ResourceModel, CallbackContext> event = gate(context).retryConflicts(progress(context), () -> {
+            throw new CfnResourceConflictException(ConflictException.builder().message("cluster is updating").build());
+        });
+
+        assertThat(event.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(event.getCallbackDelaySeconds()).isGreaterThan(0);
+    }
+
+    @Test
+    public void deleteHandler_WaitsForUpdateToFinish() {
+        simulator.updateCluster(UpdateClusterRequest.builder().clusterArn(clusterArn).shardCapacity(4).build());
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().clusterArn(clusterArn).build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                new DeleteHandler().handleRequest(proxy, request, new CallbackContext(), MOCK_PROXY(proxy, simulator), LOGGER);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(simulator.callCount("DeleteCluster")).isZero();
+
+        clockMillis.addAndGet(60_000L);
+        new DeleteHandler().handleRequest(proxy, request, response.getCallbackContext(), MOCK_PROXY(proxy, simulator), LOGGER);
+
+        assertThat(simulator.callCount("DeleteCluster")).isEqualTo(1);
+    }
+}
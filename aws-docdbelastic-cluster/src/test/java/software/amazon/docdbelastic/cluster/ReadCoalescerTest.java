@@ -0,0 +1,150 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.json.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.docdbelastic.model.GetClusterRequest;
+import software.amazon.awssdk.services.docdbelastic.model.GetClusterResponse;
+import software.amazon.awssdk.services.docdbelastic.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.docdbelastic.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.docdbelastic.model.UpdateClusterRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ReadCoalescerTest extends AbstractTestBase {
+    private static final int FOLLOWERS = 4;
+    private static final String CALLER = "caller";
+
+    private final ReadCoalescer coalescer = new ReadCoalescer();
+    private final ExecutorService executor = Executors.newFixedThreadPool(FOLLOWERS + 1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger joined = new AtomicInteger();
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private GetClusterResponse blockingGetCluster() {
+        calls.incrementAndGet();
+        try {
+            release.await(10L, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return GetClusterResponse.builder().build();
+    }
+
+    private ReadCoalescer.Joined countingJoins() {
+        return isJoined -> {
+            if (isJoined) {
+                joined.incrementAndGet();
+            }
+        };
+    }
+
+    private void awaitFollowers() throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10L);
+        while (joined.get() < FOLLOWERS && System.nanoTime() < deadline) {
+            Thread.sleep(1L);
+        }
+        release.countDown();
+    }
+
+    @Test
+    public void call_ConcurrentIdenticalRequestsShareOneCall() throws Exception {
+        final String key = ReadCoalescer.keyOf(CALLER, GetClusterRequest.builder().clusterArn(CLUSTER_ARN).build());
+        final List<Future<GetClusterResponse>> responses = new ArrayList<>();
+        for (int i = 0; i <= FOLLOWERS; i++) {
+            responses.add(executor.submit(() -> coalescer.call(key, this::blockingGetCluster, countingJoins())));
+        }
+        awaitFollowers();
+
+        final GetClusterResponse first = responses.get(0).get(10L, TimeUnit.SECONDS);
+        for (final Future<GetClusterResponse> response : responses) {
+            assertThat(response.get(10L, TimeUnit.SECONDS)).isSameAs(first);
+        }
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(coalescer.inFlightCount()).isZero();
+
+        coalescer.call(key, this::blockingGetCluster, countingJoins());
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void callAsync_CallersDoNotShareCalls() {
+        final GetClusterRequest request = GetClusterRequest.builder().clusterArn(CLUSTER_ARN).build();
+        final CompletableFuture<GetClusterResponse> firstCall = new CompletableFuture<>();
+        final CompletableFuture<GetClusterResponse> otherCall = new CompletableFuture<>();
+
+        final CompletableFuture<GetClusterResponse> first =
+                coalescer.callAsync(ReadCoalescer.keyOf(CALLER, request), () -> firstCall, countingJoins());
+        final CompletableFuture<GetClusterResponse> other =
+                coalescer.callAsync(ReadCoalescer.keyOf("other", request), () -> otherCall, countingJoins());
+        assertThat(joined.get()).isZero();
+        assertThat(coalescer.inFlightCount()).isEqualTo(2);
+
+        final GetClusterResponse response = GetClusterResponse.builder().build();
+        firstCall.complete(response);
+        otherCall.complete(GetClusterResponse.builder().build());
+        assertThat(first.join()).isSameAs(response);
+        assertThat(other.join()).isNotSameAs(response);
+    }
+
+    @Test
+    public void call_FollowersGetTheLeadersException() throws Exception {
+        final ResourceNotFoundException notFound = ResourceNotFoundException.builder().message("gone").build();
+        final List<Future<GetClusterResponse>> responses = new ArrayList<>();
+        for (int i = 0; i <= FOLLOWERS; i++) {
+            responses.add(executor.submit(() -> coalescer.call("GetCluster|" + CALLER + "|" + CLUSTER_ARN, () -> {
+                blockingGetCluster();
+                throw notFound;
+            }, countingJoins())));
+        }
+        awaitFollowers();
+
+        for (final Future<GetClusterResponse> response : responses) {
+            assertThatThrownBy(() -> response.get(10L, TimeUnit.SECONDS))
+                    .satisfies(e -> assertThat(e.getCause()).isSameAs(notFound));
+        }
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(coalescer.inFlightCount()).isZero();
+    }
+
+    @Test
+    public void callAsync_JoinsInFlightCallAndReportsRatio() {
+        final ServiceCallMetrics metrics = new ServiceCallMetrics("Read");
+        final String key = ReadCoalescer.keyOf(CALLER, ListTagsForResourceRequest.builder().resourceArn(CLUSTER_ARN).build());
+        final CompletableFuture<GetClusterResponse> leaderCall = new CompletableFuture<>();
+        final ReadCoalescer.Joined record = isJoined -> metrics.recordCoalescing("graph", "ListTagsForResource", isJoined);
+
+        final CompletableFuture<GetClusterResponse> leader = coalescer.callAsync(key, () -> leaderCall, record);
+        final CompletableFuture<GetClusterResponse> follower = coalescer.callAsync(key, () -> {
+            throw new AssertionError("joined request must not call the service");
+        }, record);
+        leaderCall.completeExceptionally(new CompletionException(ResourceNotFoundException.builder().build()));
+
+        assertThatThrownBy(leader::join).hasCauseInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(follower::join).hasCauseInstanceOf(ResourceNotFoundException.class);
+        assertThat(coalescer.inFlightCount()).isZero();
+        assertThat(ReadCoalescer.keyOf(CALLER, UpdateClusterRequest.builder().clusterArn(CLUSTER_ARN).build())).isNull();
+
+        final List<String> lines = new ArrayList<>();
+        metrics.emit(lines::add);
+        final JSONObject line = new JSONObject(lines.get(0));
+        assertThat(line.getLong("Coalesced")).isEqualTo(1L);
+        assertThat(line.getDouble("CoalescingRatio")).isEqualTo(0.5d);
+    }
+}
@@ -2,11 +2,13 @@ package software.amazon.docdbelastic.cluster;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.docdbelastic.DocDbElasticAsyncClient;
 import software.amazon.awssdk.services.docdbelastic.DocDbElasticClient;
 import software.amazon.awssdk.services.docdbelastic.model.Auth;
 import software.amazon.awssdk.services.docdbelastic.model.Cluster;
@@ -40,6 +42,12 @@ public class ReadHandlerTest extends AbstractTestBase {
     @Mock
     private ProxyClient<DocDbElasticClient> proxyClient;
 
+    @Mock
+    private DocDbElasticAsyncClient asyncSdkClient;
+
+    @Mock
+    private ProxyClient<DocDbElasticAsyncClient> asyncProxyClient;
+
     @BeforeEach
     public void setup() {
         proxy = new AmazonWebServicesClientProxy(LOGGER,
@@ -48,6 +56,8 @@ public class ReadHandlerTest extends AbstractTestBase {
                         .toMillis());
         sdkClient = mock(DocDbElasticClient.class);
         proxyClient = MOCK_PROXY(proxy, sdkClient);
+        asyncSdkClient = mock(DocDbElasticAsyncClient.class);
+        asyncProxyClient = MOCK_ASYNC_PROXY(proxy, asyncSdkClient);
     }
 
     @Test
@@ -121,4 +131,83 @@ public class ReadHandlerTest extends AbstractTestBase {
         assertThatExceptionOfType(CfnNotFoundException.class).isThrownBy(() ->
                 handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, LOGGER));
     }
+
+    @Test
+    public void handleRequest_AsyncSimpleSuccess() {
+        final ReadHandler handler = new ReadHandler();
+
+        final ResourceModel model = ResourceModel.builder()
+                .clusterName(CLUSTER_NAME)
+                .authType(AUTH_TYPE)
+                .build();
+
+        final ResourceModel desiredOutputModel = ResourceModel.builder()
+                .clusterName(CLUSTER_NAME)
+                .authType(AUTH_TYPE)
+                .vpcSecurityGroupIds(new ArrayList<>())
+                .subnetIds(new ArrayList<>())
+                .tags(TAGS)
+                .build();
+
+        GetClusterResponse mockGetClusterResponse =
+                GetClusterResponse.builder()
+                        .cluster(Cluster.builder()
+                                .clusterName(CLUSTER_NAME)
+                                .authType(Auth.PLAIN_TEXT)
+                                .build())
+                        .build();
+
+        final ListTagsForResourceResponse mockListTagsForResourceResponse =
+                ListTagsForResourceResponse.builder().tags(TAG_MAP).build();
+
+        when(asyncProxyClient.client()
+                .listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(mockListTagsForResourceResponse));
+
+        when(asyncProxyClient.client()
+                .getCluster(any(GetClusterRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(mockGetClusterResponse));
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, asyncProxyClient, LOGGER);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+        assertThat(response.getResourceModel()).isEqualTo(desiredOutputModel);
+        assertThat(response.getResourceModels()).isNull();
+        assertThat(response.getMessage()).isNull();
+        assertThat(response.getErrorCode()).isNull();
+    }
+
+    @Test
+    public void handleRequest_AsyncResourceNotFoundException() {
+        ReadHandler handler = new ReadHandler();
+
+        ResourceModel model = ResourceModel.builder()
+                .clusterName(CLUSTER_NAME)
+                .build();
+
+        ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        final CompletableFuture<GetClusterResponse> notFound = new CompletableFuture<>();
+        notFound.completeExceptionally(
+                software.amazon.awssdk.services.docdbelastic.model.ResourceNotFoundException.builder().build());
+
+        when(asyncProxyClient.client()
+                .getCluster(any(GetClusterRequest.class)))
+                .thenReturn(notFound);
+        when(asyncProxyClient.client()
+                .listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(new CompletableFuture<>());
+
+        assertThatExceptionOfType(CfnNotFoundException.class).isThrownBy(() ->
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, asyncProxyClient, LOGGER));
+    }
 }
@@ -0,0 +1,184 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.io.IOException;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.docdbelastic.DocDbElasticClient;
+import software.amazon.awssdk.services.docdbelastic.model.Cluster;
+import software.amazon.awssdk.services.docdbelastic.model.GetClusterRequest;
+import software.amazon.awssdk.services.docdbelastic.model.GetClusterResponse;
+import software.amazon.awssdk.services.docdbelastic.model.InternalServerException;
+import software.amazon.awssdk.services.docdbelastic.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.docdbelastic.model.ThrottlingException;
+import software.amazon.awssdk.services.docdbelastic.model.UpdateClusterRequest;
+import software.amazon.awssdk.services.docdbelastic.model.UpdateClusterResponse;
+import software.amazon.awssdk.services.docdbelastic.model.ValidationException;
+import software.amazon.cloudformation.exceptions.CfnInternalFailureException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class RetryPolicyTest extends AbstractTestBase {
+    private static final ThrottlingException THROTTLED = ThrottlingException.builder()
+            .message("Rate exceeded")
+            .statusCode(429)
+            .build();
+
+    private final RetryPolicy policy = RetryPolicy.builder()
+            .baseDelay(Duration.ofMillis(1L))
+            .maxDelay(Duration.ofMillis(5L))
+            .maxAttempts(3)
+            .build();
+
+    private DocDbElasticClient sdkClient;
+    private ProxyClient<DocDbElasticClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(LOGGER, MOCK_CREDENTIALS,
+                () -> Duration.ofSeconds(PROXY_WAIT_TIME_SECONDS).toMillis());
+        sdkClient = mock(DocDbElasticClient.class);
+        proxyClient = MOCK_PROXY(proxy, sdkClient);
+    }
+
+    private static GetClusterResponse getCluster(final ProxyClient<DocDbElasticClient> client) {
+        return client.injectCredentialsAndInvokeV2(GetClusterRequest.builder().clusterArn(CLUSTER_ARN).build(),
+                                                   client.client()::getCluster);
+    }
+
+    @Test
+    public void isRetryable_ClassifiesTransientErrors() {
+        assertThat(ExceptionTranslator.isRetryable(THROTTLED)).isTrue();
+        assertThat(ExceptionTranslator.isRetryable(new CfnThrottlingException(THROTTLED))).isTrue();
+        assertThat(ExceptionTranslator.isRetryable(InternalServerException.builder().statusCode(500).build())).isTrue();
+        assertThat(ExceptionTranslator.isRetryable(SdkClientException.builder().cause(new IOException("reset")).build())).isTrue();
+
+        assertThat(ExceptionTranslator.isRetryable(ValidationException.builder().statusCode(400).build())).isFalse();
+        assertThat(ExceptionTranslator.isRetryable(new CfnNotFoundException(ResourceNotFoundException.builder().statusCode(404).build()))).isFalse();
+        assertThat(ExceptionTranslator.isRetryable(new IllegalStateException())).isFalse();
+    }
+
+    @Test
+    public void nextDelay_DecorrelatedJitterWithinBounds() {
+        final RetryPolicy jittered = RetryPolicy.builder()
+                .baseDelay(Duration.ofMillis(100L))
+                .maxDelay(Duration.ofSeconds(1L))
+                .build();
+
+        Duration delay = jittered.getBaseDelay();
+        for (int i = 0; i < 100; i++) {
+            final Duration previous = delay;
+            delay = jittered.nextDelay(previous);
+            assertThat(delay).isBetween(Duration.ofMillis(100L), Duration.ofSeconds(1L));
+            assertThat(delay.toMillis()).isLessThanOrEqualTo(previous.toMillis() * 3);
+        }
+
+        assertThat(jittered.nextCallbackDelaySeconds(0)).isEqualTo(5);
+        assertThat(jittered.nextCallbackDelaySeconds(30)).isBetween(5, 60);
+    }
+
+    @Test
+    public void retrying_RetriesUntilSuccess() {
+        final GetClusterResponse response = GetClusterResponse.builder().cluster(Cluster.builder().clusterArn(CLUSTER_ARN).build()).build();
+        when(sdkClient.getCluster(any(GetClusterRequest.class))).thenThrow(THROTTLED).thenThrow(THROTTLED).thenReturn(response);
+
+        assertThat(getCluster(policy.retrying(proxyClient, Long.MAX_VALUE))).isSameAs(response);
+        verify(sdkClient, times(3)).getCluster(any(GetClusterRequest.class));
+    }
+
+    @Test
+    public void retrying_TranslatesOnceAttemptsOrBudgetRunOut() {
+        when(sdkClient.getCluster(any(GetClusterRequest.class))).thenThrow(THROTTLED);
+
+        assertThatExceptionOfType(CfnThrottlingException.class)
+                .isThrownBy(() -> getCluster(policy.retrying(proxyClient, Long.MAX_VALUE)));
+        verify(sdkClient, times(3)).getCluster(any(GetClusterRequest.class));
+
+        assertThatExceptionOfType(CfnThrottlingException.class)
+                .isThrownBy(() -> getCluster(policy.retrying(proxyClient, System.nanoTime())));
+        verify(sdkClient, times(4)).getCluster(any(GetClusterRequest.class));
+    }
+
+    @Test
+    public void retrying_TerminalErrorsAreNotRetried() {
+        final ResourceNotFoundException notFound = ResourceNotFoundException.builder().statusCode(404).build();
+        when(sdkClient.getCluster(any(GetClusterRequest.class))).thenThrow(notFound);
+
+        assertThatExceptionOfType(ResourceNotFoundException.class)
+                .isThrownBy(() -> getCluster(policy.retrying(proxyClient, Long.MAX_VALUE)));
+        verify(sdkClient, times(1)).getCluster(any(GetClusterRequest.class));
+    }
+
+    @Test
+    public void retrying_ChangesAreRetriedOnThrottlingOnly() {
+        final UpdateClusterRequest update = UpdateClusterRequest.builder().clusterArn(CLUSTER_ARN).build();
+        final UpdateClusterResponse response = UpdateClusterResponse.builder().cluster(Cluster.builder().clusterArn(CLUSTER_ARN).build()).build();
+        final InternalServerException internal = InternalServerException.builder().statusCode(500).build();
+        when(sdkClient.updateCluster(any(UpdateClusterRequest.class)))
+                .thenThrow(THROTTLED).thenReturn(response)
+                .thenThrow(internal);
+        final ProxyClient<DocDbElasticClient> retrying = policy.retrying(proxyClient, Long.MAX_VALUE);
+
+        final UpdateClusterResponse updated = retrying.injectCredentialsAndInvokeV2(update, retrying.client()::updateCluster);
+        assertThat(updated).isSameAs(response);
+        verify(sdkClient, times(2)).updateCluster(any(UpdateClusterRequest.class));
+
+        assertThatExceptionOfType(CfnInternalFailureException.class)
+                .isThrownBy(() -> retrying.injectCredentialsAndInvokeV2(update, retrying.client()::updateCluster))
+                .satisfies(e -> assertThat(ExceptionTranslator.isRetryable(e)).isTrue());
+        verify(sdkClient, times(3)).updateCluster(any(UpdateClusterRequest.class));
+    }
+
+    @Test
+    public void resumeAfterRetryableError_ReturnsInProgressWithCallbackDelay() {
+        final ResourceModel model = ResourceModel.builder().clusterArn(CLUSTER_ARN).build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+        final CallbackContext context = new CallbackContext();
+        final CreateHandler handler = new CreateHandler();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.resumeAfterRetryableError(() -> {
+            throw new CfnThrottlingException(THROTTLED);
+        }, request, context, LOGGER);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getResourceModel()).isSameAs(model);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(5);
+        assertThat(context.getRetryCallbacks()).isEqualTo(1);
+
+        handler.resumeAfterRetryableError(() -> ProgressEvent.progress(model, context), request, context, LOGGER);
+        assertThat(context.getRetryCallbacks()).isZero();
+        assertThat(context.getRetryDelaySeconds()).isZero();
+
+        context.setRetryCallbacks(BaseHandlerStd.RETRY_POLICY.getMaxCallbacks());
+        assertThatExceptionOfType(CfnThrottlingException.class).isThrownBy(() -> handler.resumeAfterRetryableError(() -> {
+            throw new CfnThrottlingException(THROTTLED);
+        }, request, context, LOGGER));
+    }
+
+    @Test
+    public void resumeAfterRetryableError_ReadFailsInstead() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().clusterArn(CLUSTER_ARN).build())
+                .build();
+
+        assertThatExceptionOfType(CfnThrottlingException.class).isThrownBy(() -> new ReadHandler().resumeAfterRetryableError(() -> {
+            throw new CfnThrottlingException(THROTTLED);
+        }, request, new CallbackContext(), LOGGER));
+    }
+}
@@ -0,0 +1,135 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.json.JSONObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.docdbelastic.DocDbElasticAsyncClient;
+import software.amazon.awssdk.services.docdbelastic.DocDbElasticClient;
+import software.amazon.awssdk.services.docdbelastic.model.CreateClusterRequest;
+import software.amazon.awssdk.services.docdbelastic.model.GetClusterRequest;
+import software.amazon.awssdk.services.docdbelastic.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.docdbelastic.model.ThrottlingException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class ServiceCallMetricsTest extends AbstractTestBase {
+    private static final String CALL_GRAPH = BaseHandlerStd.CALL_GRAPH_PREFIX + "Read";
+
+    private AmazonWebServicesClientProxy proxy;
+    private final List<String> lines = new ArrayList<>();
+
+    @BeforeEach
+    public void setup() {
+        proxy = new AmazonWebServicesClientProxy(LOGGER,
+                MOCK_CREDENTIALS,
+                () -> Duration.ofSeconds(PROXY_WAIT_TIME_SECONDS)
+                        .toMillis());
+    }
+
+    private static String createCluster(final DocDbElasticSimulator simulator) {
+        return simulator.createCluster(CreateClusterRequest.builder()
+                .clusterName(CLUSTER_NAME)
+                .adminUserName("admin")
+                .authType(AUTH_TYPE)
+                .build()).cluster().clusterArn();
+    }
+
+    @Test
+    public void emit_OneLinePerCallGraphAndApi() {
+        final DocDbElasticSimulator simulator = DocDbElasticSimulator.builder().build();
+        final String arn = createCluster(simulator);
+        final ServiceCallMetrics metrics = new ServiceCallMetrics("Read", 1000L);
+        final ProxyClient<DocDbElasticClient> proxyClient = metrics.instrument(MOCK_PROXY(proxy, simulator), CALL_GRAPH);
+
+        proxyClient.injectCredentialsAndInvokeV2(GetClusterRequest.builder().clusterArn(arn).build(), proxyClient.client()::getCluster);
+        proxyClient.injectCredentialsAndInvokeV2(GetClusterRequest.builder().clusterArn(arn).build(), proxyClient.client()::getCluster);
+        final ProxyClient<DocDbElasticClient> tags = BaseHandlerStd.forCallGraph(proxyClient, "Tags");
+        tags.injectCredentialsAndInvokeV2(ListTagsForResourceRequest.builder().resourceArn(arn).build(), tags.client()::listTagsForResource);
+
+        metrics.emit(lines::add);
+
+        assertThat(lines).hasSize(2);
+        final JSONObject getCluster = new JSONObject(lines.get(0));
+        assertThat(getCluster.getString("Operation")).isEqualTo("Read");
+        assertThat(getCluster.getString("CallGraph")).isEqualTo(CALL_GRAPH);
+        assertThat(getCluster.getString("Api")).isEqualTo("GetCluster");
+        assertThat(getCluster.getLong("Calls")).isEqualTo(2L);
+        assertThat(getCluster.getLong("Errors")).isZero();
+        assertThat(getCluster.getJSONArray("Latency").length()).isEqualTo(2);
+        assertThat(getCluster.getJSONObject("_aws").getLong("Timestamp")).isEqualTo(1000L);
+        assertThat(getCluster.getJSONObject("_aws").getJSONArray("CloudWatchMetrics").getJSONObject(0).getString("Namespace"))
+                .isEqualTo(ServiceCallMetrics.NAMESPACE);
+
+        final JSONObject listTags = new JSONObject(lines.get(1));
+        assertThat(listTags.getString("CallGraph")).isEqualTo("Tags");
+        assertThat(listTags.getString("Api")).isEqualTo("ListTagsForResource");
+    }
+
+    @Test
+    public void record_ThrottlesAndRetries() {
+        final DocDbElasticSimulator simulator = DocDbElasticSimulator.builder().throttleRate(1.0).build();
+        final ServiceCallMetrics metrics = new ServiceCallMetrics("Read");
+        final RetryPolicy policy = RetryPolicy.builder()
+                .baseDelay(Duration.ofMillis(1L))
+                .maxDelay(Duration.ofMillis(5L))
+                .maxAttempts(3)
+                .build();
+        final ProxyClient<DocDbElasticClient> proxyClient =
+                policy.retrying(metrics.instrument(MOCK_PROXY(proxy, simulator), CALL_GRAPH), Long.MAX_VALUE);
+
+        assertThatExceptionOfType(CfnThrottlingException.class).isThrownBy(() -> proxyClient.injectCredentialsAndInvokeV2(
+                GetClusterRequest.builder().clusterArn("arn").build(), proxyClient.client()::getCluster));
+        metrics.emit(lines::add);
+
+        final JSONObject line = new JSONObject(lines.get(0));
+        assertThat(line.getLong("Calls")).isEqualTo(3L);
+        assertThat(line.getLong("Errors")).isEqualTo(3L);
+        assertThat(line.getLong("Throttles")).isEqualTo(3L);
+        assertThat(line.getLong("Retries")).isEqualTo(2L);
+    }
+
+    @Test
+    public void record_CallsAfterAFailureAreNotRetries() {
+        final DocDbElasticSimulator simulator = DocDbElasticSimulator.builder().throttleRate(1.0).build();
+        final ServiceCallMetrics metrics = new ServiceCallMetrics("Read");
+        final ProxyClient<DocDbElasticClient> proxyClient = metrics.instrument(MOCK_PROXY(proxy, simulator), CALL_GRAPH);
+
+        for (int i = 0; i < 2; i++) {
+            assertThatExceptionOfType(ThrottlingException.class).isThrownBy(() -> proxyClient.injectCredentialsAndInvokeV2(
+                    GetClusterRequest.builder().clusterArn("arn").build(), proxyClient.client()::getCluster));
+        }
+        metrics.emit(lines::add);
+
+        final JSONObject line = new JSONObject(lines.get(0));
+        assertThat(line.getLong("Calls")).isEqualTo(2L);
+        assertThat(line.getLong("Retries")).isEqualTo(0L);
+    }
+
+    @Test
+    public void record_AsyncCalls() {
+        final DocDbElasticSimulator simulator = DocDbElasticSimulator.builder().build();
+        final String arn = createCluster(simulator);
+        final ServiceCallMetrics metrics = new ServiceCallMetrics("Read");
+        final ProxyClient<DocDbElasticAsyncClient> asyncProxyClient =
+                metrics.instrument(MOCK_ASYNC_PROXY(proxy, simulator.async()), CALL_GRAPH);
+
+        asyncProxyClient.injectCredentialsAndInvokeV2Async(GetClusterRequest.builder().clusterArn(arn).build(),
+                asyncProxyClient.client()::getCluster).join();
+
+        assertThat(metrics.calls(CALL_GRAPH, "GetCluster")).isEqualTo(1L);
+    }
+
+    @Test
+    public void emit_NothingWithoutCalls() {
+        new ServiceCallMetrics("List").emit(lines::add);
+
+        assertThat(lines).isEmpty();
+    }
+}
@@ -0,0 +1,77 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.docdbelastic.model.Cluster;
+import software.amazon.awssdk.services.docdbelastic.model.Status;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StabilizationDelayTest {
+
+    private static final StabilizationDelay DELAY = StabilizationDelay.builder()
+            .timeout(Duration.ofMinutes(60L))
+            .initialDelay(Duration.ofSeconds(2L))
+            .maxDelay(Duration.ofSeconds(30L))
+            .statusDelay(Status.DELETING, Duration.ofSeconds(15L))
+            .build();
+
+    @Test
+    public void nextDelay_BacksOffToMaxDelay() {
+        final StabilizationDelay delay = DELAY.forContext(new CallbackContext());
+
+        assertThat(delay.nextDelay(1)).isEqualTo(Duration.ofSeconds(2L));
+        assertThat(delay.nextDelay(2)).isEqualTo(Duration.ofSeconds(4L));
+        assertThat(delay.nextDelay(4)).isEqualTo(Duration.ofSeconds(16L));
+        assertThat(delay.nextDelay(5)).isEqualTo(Duration.ofSeconds(30L));
+        assertThat(delay.nextDelay(50)).isEqualTo(Duration.ofSeconds(30L));
+    }
+
+    @Test
+    public void nextDelay_CappedByObservedStatus() {
+        final CallbackContext context = new CallbackContext();
+        context.setCluster(Cluster.builder().status(Status.DELETING).build());
+        final StabilizationDelay delay = DELAY.forContext(context);
+
+        assertThat(delay.nextDelay(1)).isEqualTo(Duration.ofSeconds(2L));
+        assertThat(delay.nextDelay(5)).isEqualTo(Duration.ofSeconds(15L));
+    }
+
+    @Test
+    public void nextDelay_UpdatePollsAnUpdatingClusterMoreOften() {
+        final CallbackContext context = new CallbackContext();
+        final StabilizationDelay delay = UpdateHandler.UPDATE_BACKOFF_STRATEGY.forContext(context);
+        assertThat(delay.nextDelay(50)).isEqualTo(Duration.ofSeconds(30L));
+
+        context.setCluster(Cluster.builder().status(Status.UPDATING).build());
+        assertThat(delay.nextDelay(50)).isEqualTo(Duration.ofSeconds(15L));
+    }
+
+    @Test
+    public void nextDelay_RecordsStartTimeInContext() {
+        final CallbackContext context = new CallbackContext();
+
+        DELAY.forContext(context).nextDelay(1);
+
+        assertThat(context.getStabilizationStartTime()).isNotNull();
+    }
+
+    @Test
+    public void nextDelay_NeverOvershootsTimeout() {
+        final CallbackContext context = new CallbackContext();
+        context.setStabilizationStartTime(System.currentTimeMillis() - Duration.ofMinutes(60L).minusSeconds(10L).toMillis());
+
+        final Duration delay = DELAY.forContext(context).nextDelay(10);
+
+        assertThat(delay).isGreaterThan(Duration.ZERO);
+        assertThat(delay).isLessThanOrEqualTo(Duration.ofSeconds(10L));
+    }
+
+    @Test
+    public void nextDelay_ZeroAfterTimeout() {
+        final CallbackContext context = new CallbackContext();
+        context.setStabilizationStartTime(System.currentTimeMillis() - Duration.ofMinutes(61L).toMillis());
+
+        assertThat(DELAY.forContext(context).nextDelay(1)).isEqualTo(Duration.ZERO);
+    }
+}
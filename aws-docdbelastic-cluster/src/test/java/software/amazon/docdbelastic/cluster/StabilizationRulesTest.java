@@ -0,0 +1,126 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.docdbelastic.model.Cluster;
+import software.amazon.awssdk.services.docdbelastic.model.CreateClusterRequest;
+import software.amazon.awssdk.services.docdbelastic.model.Status;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class StabilizationRulesTest extends AbstractTestBase {
+
+    private static Cluster cluster(final Status status) {
+        return Cluster.builder().clusterArn(CLUSTER_ARN).status(status).build();
+    }
+
+    @Test
+    public void isStabilized_TargetAndTransitionalStatuses() {
+        assertThat(StabilizationRules.CREATE.isStabilized(cluster(Status.ACTIVE))).isTrue();
+        assertThat(StabilizationRules.CREATE.isStabilized(cluster(Status.CREATING))).isFalse();
+        assertThat(StabilizationRules.UPDATE.isStabilized(cluster(Status.UPDATING))).isFalse();
+        assertThat(StabilizationRules.UPDATE.isStabilized(cluster(Status.UNKNOWN_TO_SDK_VERSION))).isFalse();
+        assertThat(StabilizationRules.UPDATE.isStabilized(cluster(null))).isFalse();
+        assertThat(StabilizationRules.DELETE.isStabilized(cluster(Status.DELETING))).isFalse();
+    }
+
+    @Test
+    public void isStabilized_TerminalFailuresReportTheirErrorCode() {
+        for (final StabilizationRules rules : new StabilizationRules[] {StabilizationRules.CREATE, StabilizationRules.UPDATE}) {
+            StabilizationRules.TERMINAL_FAILURES.forEach((status, errorCode) ->
+                    assertThatThrownBy(() -> rules.isStabilized(cluster(status)))
+                            .isInstanceOfSatisfying(BaseHandlerException.class,
+                                    e -> assertThat(e.getErrorCode()).isEqualTo(errorCode))
+                            .hasMessageContaining(status.toString()));
+        }
+        assertThat(StabilizationRules.TERMINAL_FAILURES.get(Status.INACCESSIBLE_ENCRYPTION_CREDS))
+                .isEqualTo(HandlerErrorCode.AccessDenied);
+    }
+
+    @Test
+    public void isStabilized_DeleteWaitsThroughFailureStatuses() {
+        for (final Status status : StabilizationRules.TERMINAL_FAILURES.keySet()) {
+            assertThat(StabilizationRules.DELETE.isStabilized(cluster(status), new CallbackContext())).isFalse();
+        }
+    }
+
+    @Test
+    public void isStabilized_UpdateFailsOnlyAfterItSawTheClusterUpdating() {
+        final CallbackContext context = new CallbackContext();
+
+        // a read from before UpdateCluster took effect
+        assertThat(StabilizationRules.UPDATE.isStabilized(cluster(Status.INVALID_SUBNET_ID), context)).isFalse();
+        assertThat(StabilizationRules.UPDATE.isStabilized(cluster(Status.UPDATING), context)).isFalse();
+        assertThatThrownBy(() -> StabilizationRules.UPDATE.isStabilized(cluster(Status.INVALID_SUBNET_ID), context))
+                .isInstanceOfSatisfying(BaseHandlerException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest));
+    }
+
+    @Test
+    public void isStabilized_UpdateFailsAfterGracePeriod() {
+        final CallbackContext context = new CallbackContext();
+        context.setFirstStatusCheckTime(System.currentTimeMillis()
+                - StabilizationRules.UPDATE.getFailureGracePeriod().toMillis());
+
+        assertThatThrownBy(() -> StabilizationRules.UPDATE.isStabilized(cluster(Status.INVALID_SUBNET_ID), context))
+                .isInstanceOfSatisfying(BaseHandlerException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest));
+    }
+
+    @Test
+    public void isStabilized_CreateFailsOnFirstCheck() {
+        assertThatThrownBy(() -> StabilizationRules.CREATE.isStabilized(cluster(Status.INVALID_SUBNET_ID), new CallbackContext()))
+                .isInstanceOf(CfnInvalidRequestException.class);
+    }
+
+    @Test
+    public void isStabilized_UnexpectedStatusIsNotStabilized() {
+        assertThatThrownBy(() -> StabilizationRules.UPDATE.isStabilized(cluster(Status.DELETING)))
+                .isInstanceOf(CfnNotStabilizedException.class)
+                .hasMessageContaining("DELETING");
+    }
+
+    @Test
+    public void stabilizeUpdate_FailsFastOnTerminalStatusAfterUpdating() {
+        final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(LOGGER, MOCK_CREDENTIALS,
+                () -> Duration.ofSeconds(PROXY_WAIT_TIME_SECONDS).toMillis());
+        final DocDbElasticSimulator simulator = DocDbElasticSimulator.builder().build();
+        final String arn = simulator.createCluster(CreateClusterRequest.builder()
+                .clusterName(CLUSTER_NAME)
+                .adminUserName("admin")
+                .authType(AUTH_TYPE)
+                .build()).cluster().clusterArn();
+        simulator.forceStatus(arn, Status.INACCESSIBLE_ENCRYPTION_CREDS);
+        final CallbackContext context = new CallbackContext();
+        // an earlier invocation saw the update start
+        context.setConfirmingStatusSeen(true);
+        context.setInvocationDeadline(System.nanoTime() + Duration.ofSeconds(30L).toNanos());
+
+        assertThatThrownBy(() -> new ResourceStabilizer(MOCK_PROXY(proxy, simulator), LOGGER, LocalPolling.builder().build())
+                .stabilizeUpdate(ResourceModel.builder().clusterArn(arn).build(), context))
+                .isInstanceOfSatisfying(BaseHandlerException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(HandlerErrorCode.AccessDenied));
+        assertThat(simulator.callCount("GetCluster")).isEqualTo(1);
+    }
+
+    @Test
+    public void stabilizeDelete_WaitsThroughTerminalStatus() {
+        final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(LOGGER, MOCK_CREDENTIALS, () -> 0L);
+        final DocDbElasticSimulator simulator = DocDbElasticSimulator.builder().build();
+        final String arn = simulator.createCluster(CreateClusterRequest.builder()
+                .clusterName(CLUSTER_NAME)
+                .adminUserName("admin")
+                .authType(AUTH_TYPE)
+                .build()).cluster().clusterArn();
+        simulator.forceStatus(arn, Status.INVALID_SECURITY_GROUP_ID);
+
+        assertThat(new ResourceStabilizer(MOCK_PROXY(proxy, simulator), LOGGER)
+                .stabilizeDelete(ResourceModel.builder().clusterArn(arn).build(), new CallbackContext())).isFalse();
+    }
+}
@@ -0,0 +1,127 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.docdbelastic.DocDbElasticClient;
+import software.amazon.awssdk.services.docdbelastic.model.CreateClusterRequest;
+import software.amazon.awssdk.services.docdbelastic.model.Status;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StatusPollerTest extends AbstractTestBase {
+    private static final String CALLER = "caller";
+
+    private final AtomicLong clockMillis = new AtomicLong(1_000L);
+    private DocDbElasticSimulator simulator;
+    private ProxyClient<DocDbElasticClient> proxyClient;
+    private StatusPoller poller;
+    private final List<ResourceModel> models = new ArrayList<>();
+
+    @BeforeEach
+    public void setup() {
+        final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(LOGGER, MOCK_CREDENTIALS,
+                () -> Duration.ofSeconds(PROXY_WAIT_TIME_SECONDS).toMillis());
+        simulator = DocDbElasticSimulator.builder()
+                .createDuration(Duration.ofMinutes(10L))
+                .clock(clockMillis::get)
+                .build();
+        proxyClient = MOCK_PROXY(proxy, simulator);
+        poller = new StatusPoller(StatusPollerOptions.builder().sweepInterval(Duration.ofSeconds(5L)).build(),
+                                  () -> clockMillis.get() * 1_000_000L);
+        for (int i = 0; i < 3; i++) {
+            final String arn = simulator.createCluster(CreateClusterRequest.builder()
+                    .clusterName("cluster-" + i)
+                    .adminUserName("admin")
+                    .authType(AUTH_TYPE)
+                    .build()).cluster().clusterArn();
+            models.add(ResourceModel.builder().clusterArn(arn).build());
+        }
+    }
+
+    private List<Boolean> stabilizeCreates() {
+        final ResourceStabilizer stabilizer = new ResourceStabilizer(proxyClient, LOGGER,
+                LocalPolling.builder().maxWait(Duration.ZERO).build(), CALLER, poller);
+        final List<Boolean> stabilized = new ArrayList<>();
+        for (final ResourceModel model : models) {
+            stabilized.add(stabilizer.stabilizeCreate(model, new CallbackContext()));
+        }
+        return stabilized;
+    }
+
+    @Test
+    public void listedStatus_SingleWaitingClusterIsNotSwept() {
+        assertThat(poller.listedStatus(proxyClient, CALLER, models.get(0).getClusterArn())).isNull();
+        assertThat(poller.listedStatus(proxyClient, CALLER, models.get(0).getClusterArn())).isNull();
+
+        assertThat(simulator.callCount("ListClusters")).isZero();
+    }
+
+    @Test
+    public void listedStatus_WaitingClustersShareOneSweepPerInterval() {
+        assertThat(poller.listedStatus(proxyClient, CALLER, models.get(0).getClusterArn())).isNull();
+        assertThat(poller.listedStatus(proxyClient, CALLER, models.get(1).getClusterArn())).isEqualTo(Status.CREATING);
+        assertThat(poller.listedStatus(proxyClient, CALLER, models.get(2).getClusterArn())).isEqualTo(Status.CREATING);
+        assertThat(poller.listedStatus(proxyClient, CALLER, models.get(0).getClusterArn())).isEqualTo(Status.CREATING);
+        assertThat(simulator.callCount("ListClusters")).isEqualTo(1);
+
+        clockMillis.addAndGet(Duration.ofSeconds(5L).toMillis());
+
+        assertThat(poller.listedStatus(proxyClient, CALLER, models.get(2).getClusterArn())).isEqualTo(Status.CREATING);
+        assertThat(simulator.callCount("ListClusters")).isEqualTo(2);
+    }
+
+    @Test
+    public void listedStatus_CallersDoNotShareSweeps() {
+        assertThat(poller.listedStatus(proxyClient, CALLER, models.get(0).getClusterArn())).isNull();
+        assertThat(poller.listedStatus(proxyClient, CALLER, models.get(1).getClusterArn())).isEqualTo(Status.CREATING);
+
+        assertThat(poller.listedStatus(proxyClient, "other", models.get(2).getClusterArn())).isNull();
+        assertThat(poller.listedStatus(proxyClient, null, models.get(2).getClusterArn())).isNull();
+        assertThat(simulator.callCount("ListClusters")).isEqualTo(1);
+    }
+
+    @Test
+    public void listedStatus_DropsSweepsOfIdleCallers() {
+        for (int i = 0; i < 3; i++) {
+            poller.listedStatus(proxyClient, "session-" + i, models.get(i).getClusterArn());
+        }
+        assertThat(poller.scopeCount()).isEqualTo(3);
+
+        clockMillis.addAndGet(Duration.ofSeconds(5L).toMillis());
+        poller.listedStatus(proxyClient, "session-0", models.get(0).getClusterArn());
+        assertThat(poller.scopeCount()).isEqualTo(3);
+
+        clockMillis.addAndGet(Duration.ofSeconds(6L).toMillis());
+        poller.listedStatus(proxyClient, "session-0", models.get(0).getClusterArn());
+        assertThat(poller.scopeCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void fromEnvironment_SweepsOnlyWhenTurnedOn() {
+        assertThat(StatusPollerOptions.fromEnvironment(name -> null)).isNull();
+        assertThat(StatusPollerOptions.fromEnvironment(
+                name -> StatusPollerOptions.ENVIRONMENT_VARIABLE.equals(name) ? "true" : null)).isNotNull();
+    }
+
+    @Test
+    public void stabilizeCreate_ReadsClustersOnlyOnceListedAsDone() {
+        assertThat(stabilizeCreates()).containsExactly(false, false, false);
+        clockMillis.addAndGet(Duration.ofSeconds(5L).toMillis());
+        assertThat(stabilizeCreates()).containsExactly(false, false, false);
+        // only the first check, before there was anything to sweep for, read its cluster
+        assertThat(simulator.callCount("GetCluster")).isEqualTo(1);
+        assertThat(simulator.callCount("ListClusters")).isEqualTo(2);
+
+        clockMillis.addAndGet(Duration.ofMinutes(10L).toMillis());
+
+        assertThat(stabilizeCreates()).containsExactly(true, true, true);
+        assertThat(simulator.callCount("GetCluster")).isEqualTo(4);
+        assertThat(simulator.callCount("ListClusters")).isEqualTo(3);
+    }
+}
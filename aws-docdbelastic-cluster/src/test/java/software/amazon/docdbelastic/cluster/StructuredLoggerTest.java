@@ -0,0 +1,82 @@
+package software.amazon.docdbelastic.cluster;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.docdbelastic.model.Status;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StructuredLoggerTest {
+    private final List<String> lines = new ArrayList<>();
+    private final StructuredLogger logger = new StructuredLogger(lines::add, StructuredLogger.Level.INFO);
+
+    @Test
+    public void log_WritesLevelMessageAndFields() {
+        logger.with("operation", "Create").with("attempt", 2).with("clusterArn", null)
+                .warn("%s is %s", "cluster", Status.UPDATING);
+
+        assertThat(lines).hasSize(1);
+        final JSONObject line = new JSONObject(lines.get(0));
+        assertThat(line.getString("level")).isEqualTo("WARN");
+        assertThat(line.getString("message")).isEqualTo("cluster is UPDATING");
+        assertThat(line.getString("operation")).isEqualTo("Create");
+        assertThat(line.getInt("attempt")).isEqualTo(2);
+        assertThat(line.has("clusterArn")).isFalse();
+    }
+
+    @Test
+    public void log_DisabledLevelIsNotFormatted() {
+        final AtomicInteger formatted = new AtomicInteger();
+        final Object argument = new Object() {
+            @Override
+            public String toString() {
+                return String.valueOf(formatted.incrementAndGet());
+            }
+        };
+
+        logger.debug("model %s", argument);
+        logger.log(StructuredLogger.Level.DEBUG, () -> "model " + argument);
+        assertThat(lines).isEmpty();
+        assertThat(formatted).hasValue(0);
+
+        logger.info("model %s", argument);
+        assertThat(lines).hasSize(1);
+        assertThat(formatted).hasValue(1);
+    }
+
+    @Test
+    public void sampled_LogsChangesAndEveryNthRepeat() {
+        final StructuredLogger withField = logger.with("operation", "Create");
+        for (int i = 0; i < 2 * StructuredLogger.SAMPLE_EVERY; i++) {
+            withField.sampled("state", Status.CREATING, "state is %s", Status.CREATING);
+        }
+        logger.sampled("state", Status.ACTIVE, "state is %s", Status.ACTIVE);
+
+        assertThat(lines).hasSize(3);
+        assertThat(new JSONObject(lines.get(0)).has("suppressed")).isFalse();
+        assertThat(new JSONObject(lines.get(1)).getInt("suppressed")).isEqualTo(StructuredLogger.SAMPLE_EVERY - 1);
+        assertThat(new JSONObject(lines.get(2)).getString("message")).isEqualTo("state is ACTIVE");
+        assertThat(new JSONObject(lines.get(2)).getInt("suppressed")).isEqualTo(StructuredLogger.SAMPLE_EVERY - 1);
+    }
+
+    @Test
+    public void redact_DropsWriteOnlyProperties() {
+        final ResourceModel model = ResourceModel.builder()
+                .clusterName("cluster")
+                .adminUserName("admin")
+                .adminUserPassword("secret")
+                .shardCount(2)
+                .build();
+
+        logger.info("read %s", StructuredLogger.redact(model));
+
+        assertThat(lines.get(0)).doesNotContain("secret").doesNotContain("AdminUserPassword");
+        final JSONObject redacted = new JSONObject(new JSONObject(lines.get(0)).getString("message").substring("read ".length()));
+        assertThat(redacted.getString("ClusterName")).isEqualTo("cluster");
+        assertThat(redacted.getString("AdminUserName")).isEqualTo("admin");
+        assertThat(redacted.getInt("ShardCount")).isEqualTo(2);
+    }
+}
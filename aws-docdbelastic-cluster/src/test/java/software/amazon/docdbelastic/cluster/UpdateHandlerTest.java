@@ -5,14 +5,18 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import software.amazon.awssdk.services.docdbelastic.DocDbElasticAsyncClient;
 import software.amazon.awssdk.services.docdbelastic.DocDbElasticClient;
+import software.amazon.awssdk.services.docdbelastic.model.AccessDeniedException;
 import software.amazon.awssdk.services.docdbelastic.model.Auth;
 import software.amazon.awssdk.services.docdbelastic.model.Cluster;
 import software.amazon.awssdk.services.docdbelastic.model.GetClusterRequest;
@@ -26,6 +30,9 @@ import software.amazon.awssdk.services.docdbelastic.model.TagResourceRequest;
 import software.amazon.awssdk.services.docdbelastic.model.TagResourceResponse;
 import software.amazon.awssdk.services.docdbelastic.model.UntagResourceRequest;
 import software.amazon.awssdk.services.docdbelastic.model.UntagResourceResponse;
+import software.amazon.awssdk.services.docdbelastic.model.ValidationException;
+import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -42,6 +49,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
 public class UpdateHandlerTest extends AbstractTestBase {
@@ -107,22 +116,20 @@ public class UpdateHandlerTest extends AbstractTestBase {
                         .cluster(Cluster.builder().build())
                         .build();
 
-        ListTagsForResourceResponse mockListTagsForResourceResponse =
-                ListTagsForResourceResponse.builder().tags(new HashMap<>()).build();
-
         when(proxyClient.client()
                 .getCluster(any(GetClusterRequest.class)))
                 .thenReturn(mockGetClusterResponse);
         when(proxyClient.client()
                 .updateCluster(any(UpdateClusterRequest.class)))
                 .thenReturn(mockUpdateClusterResponse);
-        when(proxyClient.client()
-                .listTagsForResource(any(ListTagsForResourceRequest.class)))
-                .thenReturn(mockListTagsForResourceResponse);
 
         final ProgressEvent<ResourceModel, CallbackContext> response =
                 handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, LOGGER);
 
+        // one read by the mutation gate and one by the stabilizer; the final model comes from the stabilized
+        // cluster and the unchanged desired tags
+        verify(proxyClient.client(), times(2)).getCluster(any(GetClusterRequest.class));
+        verify(proxyClient.client(), never()).listTagsForResource(any(ListTagsForResourceRequest.class));
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
@@ -174,20 +181,12 @@ public class UpdateHandlerTest extends AbstractTestBase {
                                 .build())
                         .build();
 
-        UpdateClusterResponse mockUpdateClusterResponse =
-                UpdateClusterResponse.builder()
-                        .cluster(Cluster.builder().build())
-                        .build();
-
         ListTagsForResourceResponse mockListTagsForResourceResponse =
                 ListTagsForResourceResponse.builder().tags(new HashMap<>()).build();
 
         when(proxyClient.client()
                 .getCluster(any(GetClusterRequest.class)))
                 .thenReturn(mockGetClusterResponse);
-        when(proxyClient.client()
-                .updateCluster(any(UpdateClusterRequest.class)))
-                .thenReturn(mockUpdateClusterResponse);
         when(proxyClient.client()
                 .listTagsForResource(any(ListTagsForResourceRequest.class)))
                 .thenReturn(mockListTagsForResourceResponse);
@@ -201,7 +200,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         final ProgressEvent<ResourceModel, CallbackContext> response =
                 handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, LOGGER);
 
-        verify(proxyClient.client()).updateCluster(any(UpdateClusterRequest.class));
+        verify(proxyClient.client(), never()).updateCluster(any(UpdateClusterRequest.class));
         verify(proxyClient.client()).tagResource(any(TagResourceRequest.class));
         verify(proxyClient.client()).untagResource(any(UntagResourceRequest.class));
         assertThat(response).isNotNull();
@@ -212,4 +211,174 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    @Test
+    public void handleRequest_AsyncChunkedTagging() {
+        final UpdateHandler handler = new UpdateHandler();
+        final DocDbElasticAsyncClient asyncSdkClient = mock(DocDbElasticAsyncClient.class);
+        final ProxyClient<DocDbElasticAsyncClient> asyncProxyClient = MOCK_ASYNC_PROXY(proxy, asyncSdkClient);
+
+        final ResourceModel model = ResourceModel.builder()
+                .clusterArn(CLUSTER_ARN)
+                .clusterName(CLUSTER_NAME)
+                .authType(AUTH_TYPE)
+                .vpcSecurityGroupIds(new ArrayList<>())
+                .subnetIds(new ArrayList<>())
+                .build();
+
+        final Map<String, String> newTags = new HashMap<>();
+        for (int i = 0; i < 60; i++) {
+            newTags.put("key" + i, "value" + i);
+        }
+
+        final ResourceHandlerRequest<ResourceModel> request =
+                ResourceHandlerRequest.<ResourceModel>builder()
+                        .desiredResourceState(model)
+                        .previousResourceState(model)
+                        .previousResourceTags(TAG_MAP)
+                        .desiredResourceTags(newTags)
+                        .build();
+
+        when(proxyClient.client()
+                .getCluster(any(GetClusterRequest.class)))
+                .thenReturn(GetClusterResponse.builder()
+                        .cluster(Cluster.builder()
+                                .clusterArn(CLUSTER_ARN)
+                                .clusterName(CLUSTER_NAME)
+                                .authType(Auth.PLAIN_TEXT)
+                                .status(Status.ACTIVE)
+                                .build())
+                        .build());
+        when(proxyClient.client()
+                .listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder().tags(newTags).build());
+        when(asyncSdkClient.tagResource(any(TagResourceRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(TagResourceResponse.builder().build()));
+        when(asyncSdkClient.untagResource(any(UntagResourceRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(UntagResourceResponse.builder().build()));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, asyncProxyClient, LOGGER);
+
+        final ArgumentCaptor<TagResourceRequest> tagRequests = ArgumentCaptor.forClass(TagResourceRequest.class);
+        verify(asyncSdkClient, times(2)).tagResource(tagRequests.capture());
+        assertThat(tagRequests.getAllValues().stream().mapToInt(r -> r.tags().size()).max().getAsInt())
+                .isEqualTo(TagHelper.MAX_TAGS_PER_REQUEST);
+        assertThat(tagRequests.getAllValues().stream().mapToInt(r -> r.tags().size()).sum()).isEqualTo(60);
+        verify(asyncSdkClient).untagResource(any(UntagResourceRequest.class));
+        verify(proxyClient.client(), never()).updateCluster(any(UpdateClusterRequest.class));
+        verify(proxyClient.client(), never()).tagResource(any(TagResourceRequest.class));
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getTags()).hasSize(60);
+    }
+
+    @Test
+    public void handleRequest_TagsSentWhileStabilizing() {
+        final UpdateHandler handler = new UpdateHandler();
+        final DocDbElasticAsyncClient asyncSdkClient = mock(DocDbElasticAsyncClient.class);
+
+        final ResourceModel oldModel = ResourceModel.builder()
+                .clusterArn(CLUSTER_ARN)
+                .clusterName(CLUSTER_NAME)
+                .authType(AUTH_TYPE)
+                .shardCapacity(2)
+                .build();
+        final ResourceModel newModel = ResourceModel.builder()
+                .clusterArn(CLUSTER_ARN)
+                .clusterName(CLUSTER_NAME)
+                .authType(AUTH_TYPE)
+                .shardCapacity(4)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request =
+                ResourceHandlerRequest.<ResourceModel>builder()
+                        .desiredResourceState(newModel)
+                        .previousResourceState(oldModel)
+                        .desiredResourceTags(TAG_MAP)
+                        .build();
+
+        when(proxyClient.client()
+                .updateCluster(any(UpdateClusterRequest.class)))
+                .thenReturn(UpdateClusterResponse.builder().build());
+        when(proxyClient.client()
+                .getCluster(any(GetClusterRequest.class)))
+                .thenReturn(GetClusterResponse.builder()
+                        .cluster(Cluster.builder().clusterArn(CLUSTER_ARN).status(Status.ACTIVE).build())
+                        .build())
+                .thenReturn(GetClusterResponse.builder()
+                        .cluster(Cluster.builder().clusterArn(CLUSTER_ARN).status(Status.UPDATING).build())
+                        .build());
+        when(asyncSdkClient.tagResource(any(TagResourceRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(TagResourceResponse.builder().build()));
+
+        // no remaining time to wait in-process, so the first poll schedules a callback
+        proxy = new AmazonWebServicesClientProxy(LOGGER, MOCK_CREDENTIALS, () -> 0L);
+        proxyClient = MOCK_PROXY(proxy, sdkClient);
+        final CallbackContext context = new CallbackContext();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, context,
+                proxyClient, MOCK_ASYNC_PROXY(proxy, asyncSdkClient), LOGGER);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackContext().isTagsSynced()).isTrue();
+        verify(asyncSdkClient).tagResource(any(TagResourceRequest.class));
+
+        // the callback only waits for the cluster, tags are not sent again
+        handler.handleRequest(proxy, request, response.getCallbackContext(), proxyClient,
+                MOCK_ASYNC_PROXY(proxy, asyncSdkClient), LOGGER);
+
+        verify(asyncSdkClient).tagResource(any(TagResourceRequest.class));
+        verify(proxyClient.client()).updateCluster(any(UpdateClusterRequest.class));
+    }
+
+    @Test
+    public void handleRequest_TagFailureSurfacesWhenUpdateFails() {
+        final UpdateHandler handler = new UpdateHandler();
+        final DocDbElasticAsyncClient asyncSdkClient = mock(DocDbElasticAsyncClient.class);
+
+        final ResourceModel oldModel = ResourceModel.builder()
+                .clusterArn(CLUSTER_ARN)
+                .clusterName(CLUSTER_NAME)
+                .authType(AUTH_TYPE)
+                .shardCapacity(2)
+                .build();
+        final ResourceModel newModel = ResourceModel.builder()
+                .clusterArn(CLUSTER_ARN)
+                .clusterName(CLUSTER_NAME)
+                .authType(AUTH_TYPE)
+                .shardCapacity(4)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request =
+                ResourceHandlerRequest.<ResourceModel>builder()
+                        .desiredResourceState(newModel)
+                        .previousResourceState(oldModel)
+                        .desiredResourceTags(TAG_MAP)
+                        .build();
+
+        when(proxyClient.client()
+                .getCluster(any(GetClusterRequest.class)))
+                .thenReturn(GetClusterResponse.builder()
+                        .cluster(Cluster.builder().clusterArn(CLUSTER_ARN).status(Status.ACTIVE).build())
+                        .build());
+        when(proxyClient.client()
+                .updateCluster(any(UpdateClusterRequest.class)))
+                .thenThrow(ValidationException.builder().message("invalid capacity").build());
+        // the tag call is still in flight when UpdateCluster fails
+        final CompletableFuture<TagResourceResponse> tagCall = CompletableFuture.supplyAsync(() -> {
+            try {
+                Thread.sleep(100L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw AccessDeniedException.builder().message("not allowed to tag").build();
+        });
+        when(asyncSdkClient.tagResource(any(TagResourceRequest.class))).thenReturn(tagCall);
+
+        assertThatExceptionOfType(CfnInvalidRequestException.class)
+                .isThrownBy(() -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient,
+                        MOCK_ASYNC_PROXY(proxy, asyncSdkClient), LOGGER))
+                .satisfies(e -> assertThat(e.getSuppressed()).hasSize(1).hasOnlyElementsOfType(CfnAccessDeniedException.class));
+        assertThat(tagCall).isDone();
+    }
 }